@@ -1,4 +1,4 @@
-import { useEffect, useState } from "react"
+import { useEffect, useRef, useState } from "react"
 import API_BASE_URL from "./apiConfig";
 import axios from 'axios';
 import { useNavigate } from "react-router-dom";
@@ -7,8 +7,10 @@ function OrderService() {
     const [orderError, setError] = useState(null);
     const [isLoading, setLoading] = useState(false);
     const [userOrders, setUserOrders] = useState([])
+    const [nextCursor, setNextCursor] = useState(null)
     const user = JSON.parse(localStorage.getItem("user"));
     const navigate = useNavigate()
+    const idempotencyKey = useRef(crypto.randomUUID())
 
     const authHeader = () => {
         return { Authorization: `${user?.type}${user?.token}` };
@@ -19,10 +21,11 @@ function OrderService() {
         setLoading(true)
         await axios.post(`${API_BASE_URL}/order-service/order/create`,
             { firstName: fname, lastName: lname, addressLine1: address1, addressLine2: address2, city: city, phoneNo: phone, cartId: cart },
-            { headers: authHeader() }
+            { headers: { ...authHeader(), "Idempotency-Key": idempotencyKey.current } }
         ).then((response) => {
             setError(null)
             console.log(response)
+            idempotencyKey.current = crypto.randomUUID()
             navigate("/order/success")
         }).catch((error) => {
             console.log(error)
@@ -33,26 +36,99 @@ function OrderService() {
 
     };
 
-    const getOrdersByUser = async () => {
+    const getOrdersByUser = async (cursor) => {
         setLoading(true)
         await axios.get(
             `${API_BASE_URL}/order-service/order/get/byUser`,
-            { headers: authHeader() }
+            { headers: authHeader(), params: { cursor } }
         ).then((response) => {
             setError(null)
-            setUserOrders(response.data.response)
+            const page = response.data.response
+            setUserOrders((orders) => cursor ? [...orders, ...page.items] : page.items)
+            setNextCursor(page.nextCursor)
         }).catch((error) => {
             console.log(error)
             setUserOrders([])
+            setNextCursor(null)
         });
         setLoading(false)
     };
 
+    const loadMoreOrders = async () => {
+        if (nextCursor) {
+            await getOrdersByUser(nextCursor)
+        }
+    };
+
+    const getOrderById = async (orderId) => {
+        try {
+            const response = await axios.get(
+                `${API_BASE_URL}/order-service/order/get/byId`,
+                { headers: authHeader(), params: { orderId } }
+            )
+            return response.data.response
+        } catch (error) {
+            console.log(error)
+            return null
+        }
+    };
+
+    const applyStatusChange = (change) => {
+        setUserOrders((orders) => orders.map((order) => order.id === change.orderId
+            ? { ...order, orderStatus: change.orderStatus, paymentStatus: change.paymentStatus }
+            : order))
+    };
+
+    // EventSource cannot send the Authorization header, so the stream is read with fetch.
+    const subscribeToOrderUpdates = async (signal) => {
+        const response = await fetch(`${API_BASE_URL}/order-service/order/events`,
+            { headers: { ...authHeader(), Accept: "text/event-stream" }, signal })
+        if (!response.ok) {
+            const error = new Error(`Order updates failed with status ${response.status}`)
+            error.status = response.status
+            throw error
+        }
+        const reader = response.body.pipeThrough(new TextDecoderStream()).getReader()
+        let buffer = ""
+        for (;;) {
+            const { value, done } = await reader.read()
+            if (done) break
+            buffer += value
+            const events = buffer.split("\n\n")
+            buffer = events.pop()
+            events.forEach((event) => {
+                const lines = event.split("\n")
+                const data = lines.filter((line) => line.startsWith("data:")).map((line) => line.slice(5)).join("\n")
+                if (lines.includes("event:order-status") && data) {
+                    applyStatusChange(JSON.parse(data))
+                }
+            })
+        }
+    };
+
     useEffect(() => {
         getOrdersByUser()
     }, [])
 
-    return { isLoading, orderError, userOrders, getOrdersByUser, placeOrder };
+    // Keeps the stream open and reconnects after it drops; a 4xx answer such as an expired login
+    // is not retried. Returns the function that closes the stream.
+    const watchOrderUpdates = () => {
+        if (!user?.token) return undefined
+        const controller = new AbortController()
+        const connect = () => subscribeToOrderUpdates(controller.signal)
+            .then(() => true)
+            .catch((error) => {
+                console.log(error)
+                return !(error.status >= 400 && error.status < 500)
+            })
+            .then((retry) => {
+                if (retry && !controller.signal.aborted) setTimeout(connect, 5000)
+            })
+        connect()
+        return () => controller.abort()
+    };
+
+    return { isLoading, orderError, userOrders, nextCursor, getOrdersByUser, loadMoreOrders, getOrderById, placeOrder, watchOrderUpdates };
 
 }
 
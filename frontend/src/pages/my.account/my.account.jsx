@@ -1,4 +1,4 @@
-import { useContext, useEffect } from "react";
+import { useContext, useEffect, useState } from "react";
 import Footer from "../../components/footer/footer";
 import Header from "../../components/header/header";
 import { AuthContext } from "../../contexts/auth.context";
@@ -8,14 +8,19 @@ import Loading from "../../components/loading/loading";
 import Info from "../../components/info/info";
 function MyAccount() {
     const { user, toggleUser } = useContext(AuthContext)
-    const { isLoading, userOrders, getOrdersByUser } = OrderService()
+    const { isLoading, userOrders, nextCursor, loadMoreOrders, getOrderById, watchOrderUpdates } = OrderService()
+
+    useEffect(() => watchOrderUpdates(), [])
 
     return (
         <>
             <Header />
             <ProfileCard user={user} />
-            {isLoading && <Loading />}
-            {!isLoading && <OrderList orders={userOrders} />}
+            {isLoading && userOrders.length == 0 && <Loading />}
+            {!(isLoading && userOrders.length == 0) && (
+                <OrderList orders={userOrders} getOrderById={getOrderById}
+                    hasMore={nextCursor != null} loadMore={loadMoreOrders} isLoading={isLoading} />
+            )}
             <Footer />
         </>
     )
@@ -34,7 +39,7 @@ function ProfileCard({ user }) {
     )
 }
 
-function OrderList({ orders }) {
+function OrderList({ orders, getOrderById, hasMore, loadMore, isLoading }) {
 
     return (
         <>
@@ -46,44 +51,60 @@ function OrderList({ orders }) {
                         <h2>My orders</h2>
 
                         {
-                            orders.map((order) => {
-                                return (
-                                    <div className='order' key={order.id}>
-                                        <div>
-                                            <div>Order #{order.id}</div>
-                                            <div>Placed on {order.placedOn.split("T")[0]} {order.placedOn.split("T")[1]}</div>
-                                        </div>
-                                        <div className='items'>
-                                            {
-                                                order.orderItems.map((item) => {
-                                                    return (
-                                                        <div key={item.productId}>
-                                                            <img src={`${item.imageUrl}`} />
-                                                            <div>
-                                                                <div>{item.productName}</div>
-                                                                <div>Rs. {item.price} x {item.quantity}</div>
-                                                            </div>
-                                                        </div>
-                                                    )
-                                                })
-                                            }
-                                        </div>
-                                        <div>
-                                            <div>Total: Rs. {order.orderAmt}</div>
-                                            <div>Order Status: {order.orderStatus}</div>
-                                            <div>Paid Status: {order.paymentStatus}</div>
-                                            <div>Shipped address: {order.addressLine1} {order.addressLine2}</div>
-                                        </div>
-
-                                    </div>
-                                )
-                            })
+                            orders.map((order) => <OrderCard key={order.id} order={order} getOrderById={getOrderById} />)
                         }
 
-
+                        {hasMore && (
+                            <button onClick={loadMore} disabled={isLoading}>
+                                {isLoading ? "Loading..." : "Load more orders"}
+                            </button>
+                        )}
                     </div>
                 </>
             )}
         </>
     )
-}
\ No newline at end of file
+}
+
+function OrderCard({ order, getOrderById }) {
+    const [orderItems, setOrderItems] = useState(null)
+
+    const showItems = async () => {
+        const fullOrder = await getOrderById(order.id)
+        setOrderItems(fullOrder ? fullOrder.orderItems : [])
+    }
+
+    return (
+        <div className='order'>
+            <div>
+                <div>Order #{order.id}</div>
+                <div>Placed on {order.placedOn.split("T")[0]} {order.placedOn.split("T")[1]}</div>
+            </div>
+            <div className='items'>
+                {orderItems == null && (
+                    <button onClick={showItems}>Show {order.itemCount} item{order.itemCount == 1 ? "" : "s"}</button>
+                )}
+                {
+                    orderItems != null && orderItems.map((item) => {
+                        return (
+                            <div key={item.productId}>
+                                <img src={`${item.imageUrl}`} />
+                                <div>
+                                    <div>{item.productName}</div>
+                                    <div>Rs. {item.price} x {item.quantity}</div>
+                                </div>
+                            </div>
+                        )
+                    })
+                }
+            </div>
+            <div>
+                <div>Total: Rs. {order.orderAmt}</div>
+                <div>Order Status: {order.orderStatus}</div>
+                <div>Paid Status: {order.paymentStatus}</div>
+                <div>Shipped address: {order.addressLine1} {order.addressLine2}</div>
+            </div>
+
+        </div>
+    )
+}
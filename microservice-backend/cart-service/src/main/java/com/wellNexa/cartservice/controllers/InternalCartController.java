@@ -0,0 +1,28 @@
+package com.wellNexa.cartservice.controllers;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.wellNexa.cartservice.dtos.ApiResponseDto;
+import com.wellNexa.cartservice.dtos.OrderedItemsRequestDto;
+import com.wellNexa.cartservice.exceptions.ServiceLogicException;
+import com.wellNexa.cartservice.services.CartService;
+
+@RestController
+@RequestMapping("/internal/cart")
+public class InternalCartController {
+
+    @Autowired
+    private CartService cartService;
+
+    @PostMapping("/remove/ordered")
+    ResponseEntity<ApiResponseDto<?>> removeOrderedItems(@RequestParam String id, @RequestBody OrderedItemsRequestDto request) throws ServiceLogicException {
+        return cartService.removeOrderedItems(id, request);
+    }
+
+}
@@ -3,6 +3,8 @@ package com.wellNexa.cartservice.feigns;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestParam;
 
 import com.wellNexa.cartservice.dtos.ApiResponseDto;
@@ -12,6 +14,9 @@ import com.wellNexa.cartservice.dtos.ProductDto;
 public interface ProductService {
 
     @GetMapping("/product/get/byId")
-    ResponseEntity<ApiResponseDto<ProductDto>> getProductById(@RequestParam String id);
+    ResponseEntity<ApiResponseDto<ProductDto>> getProductById(@RequestHeader("X-Service-Token") String serviceToken, @RequestParam String id);
+
+    @PostMapping("/internal/product/track/cart")
+    ResponseEntity<ApiResponseDto<?>> trackAddToCart(@RequestHeader("X-Service-Token") String serviceToken, @RequestParam String id);
 
 }
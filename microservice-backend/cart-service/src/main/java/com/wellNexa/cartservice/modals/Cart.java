@@ -7,6 +7,7 @@ import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.mongodb.core.mapping.Document;
 
+import java.util.List;
 import java.util.Set;
 
 @Data
@@ -23,4 +24,6 @@ public class Cart {
 
     private Set<CartItem> cartItems;
 
+    private List<String> clearedOrderIds;
+
 }
@@ -28,7 +28,8 @@ public class WebSecurityConfig {
                 .exceptionHandling(exception -> exception.authenticationEntryPoint(unauthorizedHandler))
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth ->
-                        auth.requestMatchers("/cart/**").permitAll()
+                        auth.requestMatchers("/internal/**").hasAuthority("ROLE_SERVICE")
+                                .requestMatchers("/cart/**").permitAll()
                                 .anyRequest().authenticated()
                 );
 
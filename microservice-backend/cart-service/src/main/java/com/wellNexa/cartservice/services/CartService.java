@@ -4,6 +4,7 @@ import org.springframework.http.ResponseEntity;
 
 import com.wellNexa.cartservice.dtos.ApiResponseDto;
 import com.wellNexa.cartservice.dtos.CartItemRequestDto;
+import com.wellNexa.cartservice.dtos.OrderedItemsRequestDto;
 import com.wellNexa.cartservice.exceptions.ResourceNotFoundException;
 import com.wellNexa.cartservice.exceptions.ServiceLogicException;
 
@@ -14,6 +15,7 @@ public interface CartService {
 
     ResponseEntity<ApiResponseDto<?>> removeCartItemFromCart(String userId, String productId) throws ServiceLogicException, ResourceNotFoundException;
     ResponseEntity<ApiResponseDto<?>> clearCartById(String id) throws ServiceLogicException, ResourceNotFoundException;
+    ResponseEntity<ApiResponseDto<?>> removeOrderedItems(String id, OrderedItemsRequestDto request) throws ServiceLogicException;
     ResponseEntity<ApiResponseDto<?>> getCartById(String id) throws ServiceLogicException;
 
     ResponseEntity<ApiResponseDto<?>> getWaitlistItemsByUser(String userId) throws ResourceNotFoundException, ServiceLogicException;
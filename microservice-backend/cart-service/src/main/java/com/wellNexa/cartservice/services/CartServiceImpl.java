@@ -8,8 +8,15 @@ import com.wellNexa.cartservice.feigns.UserService;
 import com.wellNexa.cartservice.modals.Cart;
 import com.wellNexa.cartservice.modals.CartItem;
 import com.wellNexa.cartservice.repositories.CartRepository;
+import com.mongodb.client.result.UpdateResult;
 import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 
@@ -20,22 +27,34 @@ import java.util.stream.Collectors;
 @Slf4j
 public class CartServiceImpl implements CartService {
 
+    private static final String CARTS_COLLECTION = "carts";
+
+    private static final int MAX_REMOVE_ATTEMPTS = 5;
+
+    private static final int CLEARED_ORDER_IDS = 16;
+
     @Autowired
     private CartRepository cartRepository;
 
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
     @Autowired
     private ProductService productService;
 
     @Autowired
     private UserService userService;
 
+    @Value("${security.service-token:}")
+    private String serviceToken;
+
     @Override
     public ResponseEntity<ApiResponseDto<?>> addItemToCart(String userId, CartItemRequestDto requestDto) throws ResourceNotFoundException, ServiceLogicException {
         try {
             if (!Objects.requireNonNull(userService.existsUserById(userId).getBody()).getResponse()) {
                 throw new ResourceNotFoundException("User not found with id " + userId);
             }
-            if (Objects.requireNonNull(productService.getProductById(requestDto.getProductId()).getBody()).getResponse()==null) {
+            if (Objects.requireNonNull(productService.getProductById(serviceToken, requestDto.getProductId()).getBody()).getResponse()==null) {
                 throw new ResourceNotFoundException("Product not found with id " + requestDto.getProductId());
             }
 
@@ -47,6 +66,9 @@ public class CartServiceImpl implements CartService {
             userCart.setCartItems(userCartItems);
 
             cartRepository.save(userCart);
+            if (!requestDto.isWishlist()) {
+                trackAddToCart(requestDto.getProductId());
+            }
 
             return ResponseEntity.ok(
                     ApiResponseDto.builder()
@@ -222,6 +244,68 @@ public class CartServiceImpl implements CartService {
         throw new ResourceNotFoundException("No cart found for id " + id);
     }
 
+    /**
+     * Takes the lines of a placed order out of its cart, keeping anything added since checkout.
+     * The cart is rewritten with a compare-and-set on the items that were read, so a concurrent
+     * change is retried rather than overwritten, and the order id is remembered on the cart so a
+     * redelivered request does not remove the items twice.
+     */
+    @Override
+    public ResponseEntity<ApiResponseDto<?>> removeOrderedItems(String id, OrderedItemsRequestDto request) throws ServiceLogicException {
+        try {
+            Map<String, Integer> ordered = new HashMap<>();
+            request.getItems().forEach(item -> ordered.merge(item.getProductId(), item.getQuantity(), Integer::sum));
+            for (int attempt = 0; attempt < MAX_REMOVE_ATTEMPTS; attempt++) {
+                Document cart = mongoTemplate.findById(id, Document.class, CARTS_COLLECTION);
+                if (cart == null || cart.getList("clearedOrderIds", String.class, List.of()).contains(request.getOrderId())) {
+                    return orderedItemsRemovedResponse();
+                }
+
+                List<Document> items = cart.getList("cartItems", Document.class);
+                List<Document> remaining = new ArrayList<>();
+                Map<String, Integer> toRemove = new HashMap<>(ordered);
+                for (Document item : items == null ? List.<Document>of() : items) {
+                    int quantity = item.getInteger("quantity", 0);
+                    int removed = item.getBoolean("wishlist", false) ? 0
+                            : Math.min(quantity, toRemove.getOrDefault(item.getString("productId"), 0));
+                    if (removed > 0) {
+                        toRemove.merge(item.getString("productId"), -removed, Integer::sum);
+                    }
+                    if (quantity > removed) {
+                        remaining.add(new Document(item).append("quantity", quantity - removed));
+                    }
+                }
+
+                Criteria unchanged = items == null
+                        ? Criteria.where("cartItems").exists(false)
+                        : Criteria.where("cartItems").is(items);
+                UpdateResult result = mongoTemplate.updateFirst(
+                        Query.query(Criteria.where("_id").is(cart.get("_id")).andOperator(unchanged)),
+                        new Update()
+                                .set("cartItems", remaining)
+                                .push("clearedOrderIds").slice(-CLEARED_ORDER_IDS).each(request.getOrderId()),
+                        CARTS_COLLECTION
+                );
+                if (result.getMatchedCount() > 0) {
+                    return orderedItemsRemovedResponse();
+                }
+            }
+        }catch (Exception e) {
+            log.error("Failed to remove ordered items from cart: " + e.getMessage());
+            throw new ServiceLogicException("Unable to remove ordered items from cart!");
+        }
+        throw new ServiceLogicException("Cart " + id + " kept changing, ordered items not removed!");
+    }
+
+    private ResponseEntity<ApiResponseDto<?>> orderedItemsRemovedResponse() {
+        return ResponseEntity.ok(
+                ApiResponseDto.builder()
+                        .isSuccess(true)
+                        .message("Ordered items removed from cart!")
+                        .build()
+        );
+    }
+
     @Override
     public ResponseEntity<ApiResponseDto<?>> getCartById(String id) throws ServiceLogicException {
         try {
@@ -243,6 +327,16 @@ public class CartServiceImpl implements CartService {
         }
     }
 
+    private void trackAddToCart(String productId) {
+        Thread.startVirtualThread(() -> {
+            try {
+                productService.trackAddToCart(serviceToken, productId);
+            } catch (Exception e) {
+                log.warn("Failed to track add to cart for product " + productId + ": " + e.getMessage());
+            }
+        });
+    }
+
     private void createAndSaveNewCart(String userId) {
         if(!cartRepository.existsByUserId(userId)) {
             Cart cart = Cart.builder()
@@ -337,7 +431,7 @@ public class CartServiceImpl implements CartService {
     }
 
     private CartItemResponseDto cartItemToCartItemResponseDto(CartItem cartItem) {
-        ProductDto product = productService.getProductById(cartItem.getProductId()).getBody().getResponse();
+        ProductDto product = productService.getProductById(serviceToken, cartItem.getProductId()).getBody().getResponse();
 
         return CartItemResponseDto.builder()
                 .productId(product.getId())
@@ -62,7 +62,7 @@ class CartServiceImplTest {
                 ResponseEntity.ok(ApiResponseDto.<Boolean>builder().response(true).build())
         );
 
-        when(productService.getProductById(productId)).thenReturn(
+        when(productService.getProductById(any(), eq(productId))).thenReturn(
                 ResponseEntity.ok(ApiResponseDto.<ProductDto>builder()
                         .response(ProductDto.builder()
                                 .id(productId)
@@ -0,0 +1,133 @@
+package com.wellNexa.categoryservice.caching;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.wellNexa.categoryservice.enums.ECategoryEventType;
+import com.wellNexa.categoryservice.events.CategoryChangedEvent;
+import com.wellNexa.categoryservice.events.CategoryEventOutbox;
+import com.wellNexa.categoryservice.modals.Category;
+import com.wellNexa.categoryservice.repositories.CategoryRepository;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Immutable in-memory copy of all categories, so category reads never reach Mongo.
+ * Writes on this instance produce a new snapshot copy-on-write from the previous one and swap it
+ * in atomically; writes on other instances are picked up by comparing the snapshot version with
+ * the head of the category event stream and reloading when it has moved.
+ * The version is the event sequence, so every instance issues the same ETags for the same data.
+ */
+@Slf4j
+@Component
+public class CategorySnapshot {
+
+    private record Snapshot(long version, long lastModified, Map<String, Category> byId, List<Category> categories) {
+
+        static Snapshot of(long version, Map<String, Category> byId) {
+            return new Snapshot(version, System.currentTimeMillis(), Collections.unmodifiableMap(byId),
+                    List.copyOf(byId.values()));
+        }
+    }
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private CategoryEventOutbox categoryEventOutbox;
+
+    private final AtomicReference<Snapshot> current = new AtomicReference<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        reload();
+    }
+
+    /**
+     * Runs after the event outbox has numbered the change, so the new snapshot carries the
+     * sequence of the write it contains. The change is only applied on top of a snapshot that is
+     * exactly one event behind; otherwise other writes are missing and the snapshot is reloaded.
+     */
+    @Order(2)
+    @EventListener
+    public synchronized void onCategoryChanged(CategoryChangedEvent event) {
+        Snapshot previous = current.get();
+        long sequence = event.getSequence();
+        if (previous == null || sequence == 0 || previous.version() != sequence - 1) {
+            reload();
+            return;
+        }
+        Map<String, Category> byId = new LinkedHashMap<>(previous.byId());
+        Category category = event.getType() == ECategoryEventType.CATEGORY_DELETED
+                ? null
+                : categoryRepository.findById(event.getCategoryId()).orElse(null);
+        if (category == null) {
+            byId.remove(event.getCategoryId());
+        } else {
+            byId.put(category.getId(), category);
+        }
+        current.set(Snapshot.of(sequence, byId));
+    }
+
+    @Scheduled(initialDelayString = "${category.snapshot.check-interval-ms:5000}",
+            fixedDelayString = "${category.snapshot.check-interval-ms:5000}")
+    public void checkVersion() {
+        try {
+            Snapshot snapshot = current.get();
+            if (snapshot == null || snapshot.version() != categoryEventOutbox.getHeadSequence()) {
+                reload();
+            }
+        } catch (Exception e) {
+            log.warn("Unable to check category snapshot version: " + e.getMessage());
+        }
+    }
+
+    public List<Category> getCategories() {
+        return snapshot().categories();
+    }
+
+    public Category getCategory(String categoryId) {
+        return categoryId == null ? null : snapshot().byId().get(categoryId);
+    }
+
+    public long getVersion() {
+        return snapshot().version();
+    }
+
+    public long getLastModified() {
+        return snapshot().lastModified();
+    }
+
+    public String eTag(String scope) {
+        return "\"" + getVersion() + "-" + scope.replaceAll("[^A-Za-z0-9_-]", "") + "\"";
+    }
+
+    private Snapshot snapshot() {
+        Snapshot snapshot = current.get();
+        return snapshot != null ? snapshot : reload();
+    }
+
+    /**
+     * Reads the stream head before the categories, so a write racing the reload leaves the
+     * snapshot behind the head and is corrected by the next version check.
+     */
+    private synchronized Snapshot reload() {
+        long version = categoryEventOutbox.getHeadSequence();
+        Map<String, Category> byId = new LinkedHashMap<>();
+        categoryRepository.findAll().forEach(category -> byId.put(category.getId(), category));
+        Snapshot snapshot = Snapshot.of(version, byId);
+        current.set(snapshot);
+        log.info("Category snapshot loaded " + byId.size() + " categories at version " + version);
+        return snapshot;
+    }
+
+}
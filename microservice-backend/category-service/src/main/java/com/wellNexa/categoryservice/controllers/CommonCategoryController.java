@@ -3,11 +3,17 @@ package com.wellNexa.categoryservice.controllers;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.context.request.async.DeferredResult;
 
+import com.wellNexa.categoryservice.caching.CategorySnapshot;
 import com.wellNexa.categoryservice.dtos.ApiResponseDto;
+import com.wellNexa.categoryservice.events.CategoryEventOutbox;
 import com.wellNexa.categoryservice.exceptions.ServiceLogicException;
 import com.wellNexa.categoryservice.services.CategoryService;
 
+import java.util.List;
+
 
 @RestController
 @RequestMapping("/category")
@@ -16,14 +22,40 @@ public class CommonCategoryController {
     @Autowired
     private CategoryService categoryService;
 
+    @Autowired
+    private CategorySnapshot categorySnapshot;
+
+    @Autowired
+    private CategoryEventOutbox categoryEventOutbox;
+
     @GetMapping("/get/all")
-    public ResponseEntity<ApiResponseDto<?>> getAllCategories() throws ServiceLogicException {
+    public ResponseEntity<ApiResponseDto<?>> getAllCategories(WebRequest webRequest) throws ServiceLogicException {
+        if (webRequest.checkNotModified(categorySnapshot.eTag("all"), categorySnapshot.getLastModified())) {
+            return null;
+        }
         return categoryService.getAllCategories();
     }
 
     @GetMapping("/get/byId")
-    public ResponseEntity<ApiResponseDto<?>> getCategoryById(@RequestParam String id) throws ServiceLogicException {
+    public ResponseEntity<ApiResponseDto<?>> getCategoryById(@RequestParam String id, WebRequest webRequest) throws ServiceLogicException {
+        if (webRequest.checkNotModified(categorySnapshot.eTag("id-" + id), categorySnapshot.getLastModified())) {
+            return null;
+        }
         return categoryService.getCategoryById(id);
     }
 
+    @GetMapping("/get/byIds")
+    public ResponseEntity<ApiResponseDto<?>> getCategoriesByIds(@RequestParam List<String> ids, WebRequest webRequest) throws ServiceLogicException {
+        if (webRequest.checkNotModified(categorySnapshot.eTag("ids-" + String.join("-", ids)), categorySnapshot.getLastModified())) {
+            return null;
+        }
+        return categoryService.getCategoriesByIds(ids);
+    }
+
+    @GetMapping("/events")
+    public DeferredResult<ResponseEntity<ApiResponseDto<?>>> getCategoryEvents(@RequestParam(defaultValue = "-1") long after,
+                                                                              @RequestParam(defaultValue = "25000") long waitMs) {
+        return categoryEventOutbox.poll(after, waitMs);
+    }
+
 }
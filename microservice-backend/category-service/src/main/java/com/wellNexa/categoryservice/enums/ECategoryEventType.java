@@ -0,0 +1,7 @@
+package com.wellNexa.categoryservice.enums;
+
+public enum ECategoryEventType {
+    CATEGORY_CREATED,
+    CATEGORY_UPDATED,
+    CATEGORY_DELETED
+}
@@ -0,0 +1,29 @@
+package com.wellNexa.categoryservice.events;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import com.wellNexa.categoryservice.enums.ECategoryEventType;
+
+@Getter
+public class CategoryChangedEvent {
+
+    private final ECategoryEventType type;
+
+    private final String categoryId;
+
+    private final String categoryName;
+
+    /**
+     * Set by the event outbox once the change is numbered; 0 when it could not be recorded yet.
+     */
+    @Setter
+    private long sequence;
+
+    public CategoryChangedEvent(ECategoryEventType type, String categoryId, String categoryName) {
+        this.type = type;
+        this.categoryId = categoryId;
+        this.categoryName = categoryName;
+    }
+
+}
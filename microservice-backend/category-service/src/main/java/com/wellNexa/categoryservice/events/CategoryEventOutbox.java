@@ -0,0 +1,53 @@
+package com.wellNexa.categoryservice.events;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import com.wellNexa.categoryservice.enums.ECategoryEventType;
+import com.wellNexa.categoryservice.modals.Category;
+import com.wellNexa.categoryservice.modals.CategoryEvent;
+import com.wellNexa.categoryservice.repositories.CategoryRepository;
+
+/**
+ * Records every category create, rename and delete in {@code category_events}, so that
+ * product-service and other consumers can apply them in order instead of reloading every
+ * category. A retried event carries the category as it is by then, or becomes a delete.
+ */
+@Component
+public class CategoryEventOutbox extends EventOutbox<CategoryEvent> {
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    public CategoryEventOutbox() {
+        super(CategoryEvent.class, "category_event_sequence", "category-events");
+    }
+
+    @Order(1)
+    @EventListener
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        event.setSequence(record(CategoryEvent.builder()
+                .type(event.getType())
+                .categoryId(event.getCategoryId())
+                .categoryName(event.getCategoryName())
+                .build()));
+    }
+
+    @Override
+    protected CategoryEvent refresh(CategoryEvent event) {
+        Category category = categoryRepository.findById(event.getCategoryId()).orElse(null);
+        if (category == null) {
+            event.setType(ECategoryEventType.CATEGORY_DELETED);
+            event.setCategoryName(null);
+        } else if (event.getType() == ECategoryEventType.CATEGORY_DELETED) {
+            event.setType(ECategoryEventType.CATEGORY_UPDATED);
+            event.setCategoryName(category.getCategoryName());
+        } else {
+            event.setCategoryName(category.getCategoryName());
+        }
+        return event;
+    }
+
+}
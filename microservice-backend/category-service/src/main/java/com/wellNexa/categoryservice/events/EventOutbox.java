@@ -0,0 +1,236 @@
+package com.wellNexa.categoryservice.events;
+
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import com.wellNexa.categoryservice.dtos.ApiResponseDto;
+import com.wellNexa.categoryservice.dtos.EventPageDto;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Numbered change events stored in an outbox collection, for other services to follow by
+ * sequence instead of refetching defensively. Readers long-poll for the events after the last
+ * sequence they applied; waiting requests are parked as deferred results and woken by local
+ * writes or by a short periodic check for events written by other instances.
+ * <p>
+ * An event whose insert fails is queued and retried until it lands, after {@link #refresh} has
+ * brought it up to date, so a retried event never reverts a later one. Events still queued when
+ * the process stops are lost, which is why readers also reconcile with a periodic full reload.
+ */
+@Slf4j
+public abstract class EventOutbox<E extends OutboxEvent> {
+
+    private record Waiter(long after, DeferredResult<ResponseEntity<ApiResponseDto<?>>> result) {
+    }
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Value("${events.max-batch:500}")
+    private int maxBatch;
+
+    @Value("${events.max-wait-ms:25000}")
+    private long maxWaitMs;
+
+    @Value("${events.gap-grace-ms:5000}")
+    private long gapGraceMs;
+
+    private final Class<E> eventType;
+
+    private final String sequenceCollection;
+
+    private final String sequenceId;
+
+    private final Queue<Waiter> waiters = new ConcurrentLinkedQueue<>();
+
+    private final Queue<E> failed = new ConcurrentLinkedQueue<>();
+
+    protected EventOutbox(Class<E> eventType, String sequenceCollection, String sequenceId) {
+        this.eventType = eventType;
+        this.sequenceCollection = sequenceCollection;
+        this.sequenceId = sequenceId;
+    }
+
+    /**
+     * Brings a failed event up to date before it is retried. Returns {@code null} when the event
+     * no longer needs recording.
+     */
+    protected E refresh(E event) {
+        return event;
+    }
+
+    /**
+     * Numbers and stores an event, returning its sequence, or 0 when the insert failed and the
+     * event was queued for a retry.
+     */
+    protected long record(E event) {
+        try {
+            insert(event);
+            wakeWaiters();
+            return event.getSequence();
+        } catch (Exception e) {
+            log.warn("Unable to record " + eventType.getSimpleName() + ", will retry: " + e.getMessage());
+            failed.add(event);
+            return 0;
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${events.retry-interval-ms:5000}")
+    public void retryFailed() {
+        if (failed.isEmpty()) {
+            return;
+        }
+        E event;
+        while ((event = failed.peek()) != null) {
+            try {
+                E current = refresh(event);
+                if (current != null) {
+                    insert(current);
+                }
+            } catch (DuplicateKeyException e) {
+                // the earlier attempt was stored after all
+            } catch (Exception e) {
+                log.warn("Unable to record " + eventType.getSimpleName() + ", will retry: " + e.getMessage());
+                break;
+            }
+            failed.poll();
+        }
+        wakeWaiters();
+    }
+
+    /**
+     * Returns the events after the given sequence, waiting up to {@code waitMs} for new ones when
+     * there are none yet. A negative sequence returns only the current head, which a new reader
+     * takes before loading its initial state.
+     */
+    public DeferredResult<ResponseEntity<ApiResponseDto<?>>> poll(long after, long waitMs) {
+        long timeout = Math.max(0, Math.min(waitMs, maxWaitMs));
+        DeferredResult<ResponseEntity<ApiResponseDto<?>>> result = new DeferredResult<>(Math.max(timeout, 1L));
+        EventPageDto<E> page = readPage(after);
+        if (after < 0 || page.isReset() || !page.getEvents().isEmpty() || timeout == 0) {
+            result.setResult(toResponse(page));
+            return result;
+        }
+
+        Waiter waiter = new Waiter(after, result);
+        result.onTimeout(() -> result.setResult(toResponse(page)));
+        result.onCompletion(() -> waiters.remove(waiter));
+        waiters.add(waiter);
+        return result;
+    }
+
+    @Scheduled(fixedDelayString = "${events.wake-interval-ms:1000}")
+    public void wakeWaiters() {
+        if (waiters.isEmpty()) {
+            return;
+        }
+        try {
+            long head = getHeadSequence();
+            Map<Long, EventPageDto<E>> pages = new HashMap<>();
+            for (Waiter waiter : waiters) {
+                if (waiter.after() >= head || waiter.result().isSetOrExpired()) {
+                    continue;
+                }
+                EventPageDto<E> page = pages.computeIfAbsent(waiter.after(), this::readPage);
+                if (page.isReset() || !page.getEvents().isEmpty()) {
+                    waiter.result().setResult(toResponse(page));
+                }
+            }
+        } catch (Exception e) {
+            log.error("Unable to wake " + eventType.getSimpleName() + " readers: " + e.getMessage());
+        }
+    }
+
+    public long getHeadSequence() {
+        Document counter = mongoTemplate.findOne(Query.query(Criteria.where("_id").is(sequenceId)), Document.class, sequenceCollection);
+        return counter == null ? 0 : counter.get("value", Number.class).longValue();
+    }
+
+    private void insert(E event) {
+        event.setCreatedAt(new Date());
+        event.setSequence(nextSequence());
+        mongoTemplate.insert(event);
+    }
+
+    private EventPageDto<E> readPage(long after) {
+        long head = getHeadSequence();
+        if (after < 0) {
+            return EventPageDto.<E>builder().events(List.of()).lastSequence(head).build();
+        }
+        if (after > head || oldestSequence(head) > after + 1) {
+            return EventPageDto.<E>builder().events(List.of()).lastSequence(head).reset(true).build();
+        }
+
+        Query query = Query.query(Criteria.where("sequence").gt(after))
+                .with(Sort.by(Sort.Direction.ASC, "sequence"))
+                .limit(maxBatch);
+        List<E> events = contiguous(mongoTemplate.find(query, eventType), after);
+        long last = events.isEmpty() ? after : events.get(events.size() - 1).getSequence();
+        return EventPageDto.<E>builder().events(events).lastSequence(last).build();
+    }
+
+    /**
+     * Sequences are allocated before the event is inserted, so a concurrent writer may briefly
+     * leave a hole. Stop at a recent hole rather than let readers skip past an event that is
+     * about to land; a hole older than the grace period belongs to a failed insert and is skipped.
+     */
+    private List<E> contiguous(List<E> events, long after) {
+        List<E> ordered = new ArrayList<>(events.size());
+        long expected = after + 1;
+        long graceCutoff = System.currentTimeMillis() - gapGraceMs;
+        for (E event : events) {
+            if (event.getSequence() != expected && event.getCreatedAt().getTime() > graceCutoff) {
+                break;
+            }
+            ordered.add(event);
+            expected = event.getSequence() + 1;
+        }
+        return ordered;
+    }
+
+    private long nextSequence() {
+        Document counter = mongoTemplate.findAndModify(
+                Query.query(Criteria.where("_id").is(sequenceId)),
+                new Update().inc("value", 1L),
+                FindAndModifyOptions.options().upsert(true).returnNew(true),
+                Document.class,
+                sequenceCollection
+        );
+        return counter.get("value", Number.class).longValue();
+    }
+
+    private long oldestSequence(long head) {
+        Query query = new Query().with(Sort.by(Sort.Direction.ASC, "sequence")).limit(1);
+        E oldest = mongoTemplate.findOne(query, eventType);
+        return oldest == null ? head + 1 : oldest.getSequence();
+    }
+
+    private ResponseEntity<ApiResponseDto<?>> toResponse(EventPageDto<E> page) {
+        return ResponseEntity.ok(
+                ApiResponseDto.builder()
+                        .isSuccess(true)
+                        .response(page)
+                        .build()
+        );
+    }
+
+}
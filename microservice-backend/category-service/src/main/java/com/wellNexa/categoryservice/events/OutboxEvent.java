@@ -0,0 +1,18 @@
+package com.wellNexa.categoryservice.events;
+
+import java.util.Date;
+
+/**
+ * A change event stored by an {@link EventOutbox}, numbered in the order it was recorded.
+ */
+public interface OutboxEvent {
+
+    long getSequence();
+
+    void setSequence(long sequence);
+
+    Date getCreatedAt();
+
+    void setCreatedAt(Date createdAt);
+
+}
@@ -0,0 +1,34 @@
+package com.wellNexa.categoryservice.modals;
+
+import lombok.Builder;
+import lombok.Data;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import com.wellNexa.categoryservice.enums.ECategoryEventType;
+import com.wellNexa.categoryservice.events.OutboxEvent;
+
+import java.util.Date;
+
+@Data
+@Document(collection = "category_events")
+@Builder
+public class CategoryEvent implements OutboxEvent {
+
+    @Id
+    private String id;
+
+    @Indexed(unique = true)
+    private long sequence;
+
+    private ECategoryEventType type;
+
+    private String categoryId;
+
+    private String categoryName;
+
+    @Indexed(expireAfter = "7d")
+    private Date createdAt;
+
+}
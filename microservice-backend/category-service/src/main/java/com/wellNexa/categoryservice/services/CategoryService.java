@@ -9,6 +9,8 @@ import com.wellNexa.categoryservice.dtos.CategoryRequestDto;
 import com.wellNexa.categoryservice.exceptions.CategoryAlreadyExistsException;
 import com.wellNexa.categoryservice.exceptions.ServiceLogicException;
 
+import java.util.List;
+
 @Service
 public interface CategoryService {
 
@@ -16,6 +18,8 @@ public interface CategoryService {
 
     ResponseEntity<ApiResponseDto<?>> getCategoryById(String categoryId) throws ServiceLogicException;
 
+    ResponseEntity<ApiResponseDto<?>> getCategoriesByIds(List<String> categoryIds) throws ServiceLogicException;
+
     ResponseEntity<ApiResponseDto<?>> createCategory(CategoryRequestDto categoryRequestDto) throws ServiceLogicException, CategoryAlreadyExistsException;
 
     ResponseEntity<ApiResponseDto<?>> editCategory(String categoryId, CategoryRequestDto categoryRequestDto) throws ServiceLogicException, CategoryAlreadyExistsException;
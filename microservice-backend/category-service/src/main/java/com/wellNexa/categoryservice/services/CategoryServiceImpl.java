@@ -1,11 +1,15 @@
 package com.wellNexa.categoryservice.services;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 
+import com.wellNexa.categoryservice.caching.CategorySnapshot;
 import com.wellNexa.categoryservice.dtos.ApiResponseDto;
 import com.wellNexa.categoryservice.dtos.CategoryRequestDto;
+import com.wellNexa.categoryservice.enums.ECategoryEventType;
+import com.wellNexa.categoryservice.events.CategoryChangedEvent;
 import com.wellNexa.categoryservice.exceptions.CategoryAlreadyExistsException;
 import com.wellNexa.categoryservice.exceptions.CategoryNotFoundException;
 import com.wellNexa.categoryservice.exceptions.ServiceLogicException;
@@ -13,6 +17,7 @@ import com.wellNexa.categoryservice.modals.Category;
 import com.wellNexa.categoryservice.repositories.CategoryRepository;
 
 import java.util.List;
+import java.util.Objects;
 
 @Component
 public class CategoryServiceImpl implements CategoryService {
@@ -20,10 +25,16 @@ public class CategoryServiceImpl implements CategoryService {
     @Autowired
     CategoryRepository categoryRepository;
 
+    @Autowired
+    private CategorySnapshot categorySnapshot;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     @Override
     public ResponseEntity<ApiResponseDto<?>> getAllCategories() throws ServiceLogicException {
-        List<Category> categories = categoryRepository.findAll();
         try {
+            List<Category> categories = categorySnapshot.getCategories();
             return ResponseEntity.ok(
                     ApiResponseDto.builder()
                             .isSuccess(true)
@@ -40,7 +51,7 @@ public class CategoryServiceImpl implements CategoryService {
     public ResponseEntity<ApiResponseDto<?>> getCategoryById(String categoryId) throws ServiceLogicException {
 
         try {
-            Category category = categoryRepository.findById(categoryId).orElse(null);
+            Category category = categorySnapshot.getCategory(categoryId);
             return ResponseEntity.ok(
                     ApiResponseDto.builder()
                             .isSuccess(true)
@@ -52,6 +63,26 @@ public class CategoryServiceImpl implements CategoryService {
         }
     }
 
+    @Override
+    public ResponseEntity<ApiResponseDto<?>> getCategoriesByIds(List<String> categoryIds) throws ServiceLogicException {
+        try {
+            List<Category> categories = categoryIds.stream()
+                    .distinct()
+                    .map(categorySnapshot::getCategory)
+                    .filter(Objects::nonNull)
+                    .toList();
+            return ResponseEntity.ok(
+                    ApiResponseDto.builder()
+                            .isSuccess(true)
+                            .response(categories)
+                            .message(categories.size() + " results found!")
+                            .build()
+            );
+        }catch (Exception e) {
+            throw new ServiceLogicException("Unable to find categories!");
+        }
+    }
+
     @Override
     public ResponseEntity<ApiResponseDto<?>> createCategory(CategoryRequestDto categoryRequestDto) throws ServiceLogicException, CategoryAlreadyExistsException {
         try {
@@ -61,7 +92,8 @@ public class CategoryServiceImpl implements CategoryService {
                         .description(categoryRequestDto.getDescription())
                         .imageUrl(categoryRequestDto.getImageUrl())
                         .build();
-                categoryRepository.insert(category);
+                category = categoryRepository.insert(category);
+                eventPublisher.publishEvent(new CategoryChangedEvent(ECategoryEventType.CATEGORY_CREATED, category.getId(), category.getCategoryName()));
                 return ResponseEntity.ok(
                         ApiResponseDto.builder()
                                 .isSuccess(true)
@@ -85,6 +117,7 @@ public class CategoryServiceImpl implements CategoryService {
                 category.setDescription(categoryRequestDto.getDescription());
                 category.setImageUrl(categoryRequestDto.getImageUrl());
                 categoryRepository.save(category);
+                eventPublisher.publishEvent(new CategoryChangedEvent(ECategoryEventType.CATEGORY_UPDATED, categoryId, category.getCategoryName()));
                 return ResponseEntity.ok(
                         ApiResponseDto.builder()
                                 .isSuccess(true)
@@ -104,6 +137,7 @@ public class CategoryServiceImpl implements CategoryService {
         try {
             if (categoryRepository.existsById(categoryId)) {
                 categoryRepository.deleteById(categoryId);
+                eventPublisher.publishEvent(new CategoryChangedEvent(ECategoryEventType.CATEGORY_DELETED, categoryId, null));
                 return ResponseEntity.ok(
                         ApiResponseDto.builder()
                                 .isSuccess(true)
@@ -0,0 +1,313 @@
+package com.wellNexa.orderservice.analytics;
+
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.IndexResolver;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import com.mongodb.MongoNamespace;
+import com.mongodb.client.model.RenameCollectionOptions;
+import com.wellNexa.orderservice.dtos.CartItemDto;
+import com.wellNexa.orderservice.dtos.OrderStatsDto;
+import com.wellNexa.orderservice.enums.EOrderStatus;
+import com.wellNexa.orderservice.modals.ArchivedOrder;
+import com.wellNexa.orderservice.modals.DailyOrderStats;
+import com.wellNexa.orderservice.modals.Order;
+import com.wellNexa.orderservice.modals.OrderStatusStats;
+import com.wellNexa.orderservice.modals.ProductSalesStats;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+/**
+ * Keeps pre-aggregated sales counters per day, per order status and per product, so dashboards
+ * read a handful of small documents instead of scanning the orders collection. Each write is a
+ * single unordered bulk of {@code $inc} upserts. Orders that end up cancelled or returned are
+ * counted as voided on their day and taken back out of the product totals.
+ * {@link #rebuild()} recomputes every counter from the live and archived order history with
+ * parallel scans and swaps the results in by renaming the rebuilt collections over the live ones.
+ */
+@Slf4j
+@Component
+public class OrderStatsRecorder {
+
+
+    private static final class Totals {
+        final Map<String, DailyOrderStats> daily = new HashMap<>();
+        final Map<EOrderStatus, Long> byStatus = new EnumMap<>(EOrderStatus.class);
+        final Map<String, ProductSalesStats> products = new HashMap<>();
+        int orders;
+
+        void add(Order order) {
+            orders++;
+            boolean voided = isVoided(order.getOrderStatus());
+            DailyOrderStats day = daily.computeIfAbsent(dayOf(order), id -> DailyOrderStats.builder().day(id).build());
+            day.setOrders(day.getOrders() + 1);
+            day.setRevenue(day.getRevenue() + order.getOrderAmt());
+            if (voided) {
+                day.setVoidedOrders(day.getVoidedOrders() + 1);
+                day.setVoidedRevenue(day.getVoidedRevenue() + order.getOrderAmt());
+            }
+            if (order.getOrderStatus() != null) {
+                byStatus.merge(order.getOrderStatus(), 1L, Long::sum);
+            }
+            if (!voided && order.getOrderItems() != null) {
+                for (CartItemDto item : order.getOrderItems()) {
+                    ProductSalesStats product = products.computeIfAbsent(item.getProductId(),
+                            id -> ProductSalesStats.builder().productId(id).build());
+                    product.setProductName(item.getProductName());
+                    product.setQuantity(product.getQuantity() + item.getQuantity());
+                    product.setRevenue(product.getRevenue() + item.getAmount());
+                }
+            }
+        }
+
+        void merge(Totals other) {
+            orders += other.orders;
+            other.daily.forEach((id, stats) -> daily.merge(id, stats, (a, b) -> {
+                a.setOrders(a.getOrders() + b.getOrders());
+                a.setRevenue(a.getRevenue() + b.getRevenue());
+                a.setVoidedOrders(a.getVoidedOrders() + b.getVoidedOrders());
+                a.setVoidedRevenue(a.getVoidedRevenue() + b.getVoidedRevenue());
+                return a;
+            }));
+            other.byStatus.forEach((status, count) -> byStatus.merge(status, count, Long::sum));
+            other.products.forEach((id, stats) -> products.merge(id, stats, (a, b) -> {
+                a.setQuantity(a.getQuantity() + b.getQuantity());
+                a.setRevenue(a.getRevenue() + b.getRevenue());
+                return a;
+            }));
+        }
+    }
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Value("${order.stats.rebuild-partitions:8}")
+    private int rebuildPartitions;
+
+    @Value("${order.stats.max-days:366}")
+    private int maxDays;
+
+    public void recordPlaced(Order order) {
+        try {
+            BulkOperations bulkOperations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, DailyOrderStats.class);
+            bulkOperations.upsert(byId(dayOf(order)), new Update().inc("orders", 1).inc("revenue", order.getOrderAmt()));
+            bulkOperations.execute();
+            incrementStatus(order.getOrderStatus(), 1);
+            incrementProducts(order, 1);
+        } catch (Exception e) {
+            log.error("Failed to record order stats: " + e.getMessage());
+        }
+    }
+
+    public void recordStatusChange(Order order, EOrderStatus from, EOrderStatus to) {
+        if (from == to) {
+            return;
+        }
+        try {
+            BulkOperations bulkOperations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, OrderStatusStats.class);
+            bulkOperations.upsert(byId(from), new Update().inc("count", -1));
+            bulkOperations.upsert(byId(to), new Update().inc("count", 1));
+            bulkOperations.execute();
+
+            int voidedDelta = (isVoided(to) ? 1 : 0) - (isVoided(from) ? 1 : 0);
+            if (voidedDelta != 0) {
+                mongoTemplate.upsert(byId(dayOf(order)),
+                        new Update().inc("voidedOrders", voidedDelta).inc("voidedRevenue", voidedDelta * order.getOrderAmt()),
+                        DailyOrderStats.class);
+                incrementProducts(order, -voidedDelta);
+            }
+        } catch (Exception e) {
+            log.error("Failed to record order status stats: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Moves {@code count} orders between status counters for bulk transitions that neither void
+     * nor restore an order, which is all the status counters need to know about them.
+     */
+    public void recordStatusChanges(EOrderStatus from, EOrderStatus to, long count) {
+        if (from == to || count == 0) {
+            return;
+        }
+        try {
+            BulkOperations bulkOperations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, OrderStatusStats.class);
+            bulkOperations.upsert(byId(from), new Update().inc("count", -count));
+            bulkOperations.upsert(byId(to), new Update().inc("count", count));
+            bulkOperations.execute();
+        } catch (Exception e) {
+            log.error("Failed to record order status stats: " + e.getMessage());
+        }
+    }
+
+    public OrderStatsDto getStats(LocalDate from, LocalDate to, int top) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusDays(29);
+        if (start.isBefore(end.minusDays(maxDays))) {
+            start = end.minusDays(maxDays);
+        }
+        Query daily = Query.query(Criteria.where("_id").gte(start.toString()).lte(end.toString()))
+                .with(Sort.by(Sort.Direction.ASC, "_id"));
+        Query topProducts = new Query()
+                .with(Sort.by(Sort.Direction.DESC, "quantity"))
+                .limit(Math.max(1, Math.min(top, 100)));
+        return OrderStatsDto.builder()
+                .daily(mongoTemplate.find(daily, DailyOrderStats.class))
+                .byStatus(mongoTemplate.findAll(OrderStatusStats.class))
+                .topProducts(mongoTemplate.find(topProducts, ProductSalesStats.class))
+                .build();
+    }
+
+    /**
+     * Recomputes all counters from the order history. Live orders are split into id ranges by
+     * creation time and scanned concurrently with the archive on virtual threads; the merged
+     * totals are written to fresh collections that then replace the live ones. Increments
+     * landing while the scan runs are lost with the old collections, so this is meant for
+     * backfills and repairs.
+     */
+    public synchronized int rebuild() throws Exception {
+        Order first = mongoTemplate.findOne(idOnly().with(Sort.by(Sort.Direction.ASC, "_id")).limit(1), Order.class);
+        Order last = mongoTemplate.findOne(idOnly().with(Sort.by(Sort.Direction.DESC, "_id")).limit(1), Order.class);
+        Totals totals = new Totals();
+        List<Future<Totals>> scans = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            scans.add(executor.submit(this::scanArchive));
+            if (first != null && last != null) {
+                ObjectId lastId = new ObjectId(last.getId());
+                long from = new ObjectId(first.getId()).getTimestamp();
+                long to = lastId.getTimestamp() + 1L;
+                long step = Math.max((to - from + rebuildPartitions - 1) / rebuildPartitions, 1L);
+                for (long start = from; start < to; start += step) {
+                    Criteria range = Criteria.where("_id")
+                            .gte(timestampId(start))
+                            .lt(timestampId(Math.min(start + step, to)))
+                            .lte(lastId);
+                    scans.add(executor.submit(() -> scan(range)));
+                }
+            }
+        }
+        for (Future<Totals> scan : scans) {
+            totals.merge(scan.get());
+        }
+
+        replace(DailyOrderStats.class, new ArrayList<>(totals.daily.values()));
+        List<OrderStatusStats> statuses = new ArrayList<>();
+        totals.byStatus.forEach((status, count) -> statuses.add(OrderStatusStats.builder().status(status).count(count).build()));
+        replace(OrderStatusStats.class, statuses);
+        replace(ProductSalesStats.class, new ArrayList<>(totals.products.values()));
+        log.info("Rebuilt order stats from " + totals.orders + " orders");
+        return totals.orders;
+    }
+
+    private Totals scan(Criteria range) {
+        Totals totals = new Totals();
+        Query query = Query.query(range);
+        query.fields().include("placedOn", "orderStatus", "orderAmt", "orderItems");
+        try (Stream<Order> orders = mongoTemplate.stream(query, Order.class)) {
+            orders.forEach(totals::add);
+        }
+        return totals;
+    }
+
+    private Totals scanArchive() {
+        Totals totals = new Totals();
+        Query query = new Query();
+        query.fields().include("placedOn", "orderStatus", "orderAmt", "orderItems");
+        try (Stream<ArchivedOrder> orders = mongoTemplate.stream(query, ArchivedOrder.class)) {
+            orders.forEach(order -> totals.add(order.toOrder()));
+        }
+        return totals;
+    }
+
+    /**
+     * Swaps in a freshly written collection for the entity. The mapped indexes are created on the
+     * new collection before the rename, because the rename drops the old collection with its own.
+     */
+    private void replace(Class<?> entity, List<?> documents) {
+        String collection = mongoTemplate.getCollectionName(entity);
+        String rebuilt = collection + "_rebuild";
+        mongoTemplate.dropCollection(rebuilt);
+        if (documents.isEmpty()) {
+            mongoTemplate.dropCollection(collection);
+            ensureIndexes(entity, collection);
+            return;
+        }
+        mongoTemplate.insert(documents, rebuilt);
+        ensureIndexes(entity, rebuilt);
+        mongoTemplate.getCollection(rebuilt).renameCollection(
+                new MongoNamespace(mongoTemplate.getDb().getName(), collection),
+                new RenameCollectionOptions().dropTarget(true));
+    }
+
+    private void ensureIndexes(Class<?> entity, String collection) {
+        IndexResolver resolver = new MongoPersistentEntityIndexResolver(mongoTemplate.getConverter().getMappingContext());
+        IndexOperations indexOperations = mongoTemplate.indexOps(collection);
+        resolver.resolveIndexFor(entity).forEach(indexOperations::ensureIndex);
+    }
+
+    /**
+     * The smallest ObjectId of a second: the timestamp followed by zero bytes, so range bounds do
+     * not depend on this process's machine and counter bytes.
+     */
+    static ObjectId timestampId(long epochSeconds) {
+        return new ObjectId(String.format("%08x0000000000000000", epochSeconds));
+    }
+
+    private void incrementStatus(EOrderStatus status, int delta) {
+        if (status != null) {
+            mongoTemplate.upsert(byId(status), new Update().inc("count", delta), OrderStatusStats.class);
+        }
+    }
+
+    private void incrementProducts(Order order, int sign) {
+        if (order.getOrderItems() == null || order.getOrderItems().isEmpty()) {
+            return;
+        }
+        BulkOperations bulkOperations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ProductSalesStats.class);
+        for (CartItemDto item : order.getOrderItems()) {
+            bulkOperations.upsert(byId(item.getProductId()), new Update()
+                    .set("productName", item.getProductName())
+                    .inc("quantity", sign * item.getQuantity())
+                    .inc("revenue", sign * item.getAmount()));
+        }
+        bulkOperations.execute();
+    }
+
+    private static Query byId(Object id) {
+        return Query.query(Criteria.where("_id").is(id));
+    }
+
+    private static Query idOnly() {
+        Query query = new Query();
+        query.fields().include("_id");
+        return query;
+    }
+
+    private static String dayOf(Order order) {
+        return order.getPlacedOn() != null ? order.getPlacedOn().toLocalDate().toString() : "unknown";
+    }
+
+    public static boolean isVoided(EOrderStatus status) {
+        return status == EOrderStatus.CANCELLED || status == EOrderStatus.RETURNED;
+    }
+
+}
@@ -0,0 +1,112 @@
+package com.wellNexa.orderservice.archive;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.wellNexa.orderservice.enums.EOrderStatus;
+import com.wellNexa.orderservice.modals.ArchivedOrder;
+import com.wellNexa.orderservice.modals.Order;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Moves delivered and cancelled orders older than the configured age from {@code orders} into
+ * the compact {@code orders_archive} collection, in batches. Each batch is upserted into the
+ * archive before it is deleted from {@code orders}, so an interrupted pass leaves duplicates
+ * rather than gaps, and the next pass overwrites them. The delete matches the archived statuses
+ * again; an order that changed status in between stays live and its archive copy is dropped.
+ * Orders with outbox tasks still pending or failed are left alone.
+ */
+@Slf4j
+@Component
+public class OrderArchiver {
+
+    private static final List<EOrderStatus> ARCHIVED_STATUSES = List.of(EOrderStatus.DELIVERED, EOrderStatus.CANCELLED);
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Value("${order.archive.enabled:true}")
+    private boolean enabled;
+
+    @Value("${order.archive.min-age-days:180}")
+    private int minAgeDays;
+
+    @Value("${order.archive.batch-size:500}")
+    private int batchSize;
+
+    private final AtomicBoolean archiving = new AtomicBoolean();
+
+    @Scheduled(initialDelayString = "${order.archive.interval-ms:3600000}",
+            fixedDelayString = "${order.archive.interval-ms:3600000}")
+    public void archive() {
+        if (!enabled || !archiving.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            LocalDateTime cutoff = LocalDateTime.now().minusDays(minAgeDays);
+            long archived = 0;
+            int moved;
+            do {
+                moved = archiveBatch(cutoff);
+                archived += moved;
+            } while (moved == batchSize);
+            if (archived > 0) {
+                log.info("Archived " + archived + " orders placed before " + cutoff);
+            }
+        } catch (Exception e) {
+            log.error("Failed to archive orders: " + e.getMessage());
+        } finally {
+            archiving.set(false);
+        }
+    }
+
+    private int archiveBatch(LocalDateTime cutoff) {
+        Query query = Query.query(new Criteria().andOperator(
+                        archivable(),
+                        Criteria.where("placedOn").lt(cutoff),
+                        new Criteria().orOperator(Criteria.where("pendingTasks").exists(false), Criteria.where("pendingTasks").size(0)),
+                        new Criteria().orOperator(Criteria.where("failedTasks").exists(false), Criteria.where("failedTasks").size(0))))
+                .limit(batchSize);
+        List<Order> orders = mongoTemplate.find(query, Order.class);
+        if (orders.isEmpty()) {
+            return 0;
+        }
+
+        LocalDateTime archivedOn = LocalDateTime.now();
+        BulkOperations bulkOperations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ArchivedOrder.class);
+        for (Order order : orders) {
+            bulkOperations.replaceOne(Query.query(Criteria.where("id").is(order.getId())),
+                    ArchivedOrder.of(order, archivedOn), FindAndReplaceOptions.options().upsert());
+        }
+        bulkOperations.execute();
+
+        List<String> ids = orders.stream().map(Order::getId).toList();
+        long deleted = mongoTemplate.remove(
+                Query.query(new Criteria().andOperator(Criteria.where("id").in(ids), archivable())),
+                Order.class
+        ).getDeletedCount();
+        if (deleted < ids.size()) {
+            Query stillLive = Query.query(Criteria.where("id").in(ids));
+            stillLive.fields().include("_id");
+            List<String> liveIds = mongoTemplate.find(stillLive, Order.class).stream().map(Order::getId).toList();
+            mongoTemplate.remove(Query.query(Criteria.where("id").in(liveIds)), ArchivedOrder.class);
+        }
+        return orders.size();
+    }
+
+    private static Criteria archivable() {
+        return Criteria.where("orderStatus").in(ARCHIVED_STATUSES);
+    }
+
+}
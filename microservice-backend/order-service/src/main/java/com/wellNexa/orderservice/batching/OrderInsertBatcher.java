@@ -0,0 +1,151 @@
+package com.wellNexa.orderservice.batching;
+
+import com.mongodb.bulk.BulkWriteError;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import com.wellNexa.orderservice.modals.Order;
+import com.wellNexa.orderservice.repositories.OrderRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Optional group-commit stage for order inserts. Concurrent callers hand their order to a single
+ * writer that collects whatever arrives within a short window, up to a maximum batch size, and
+ * writes the batch with one unordered bulk insert. Ids are assigned before queueing, so each
+ * caller gets back its own order or its own write error. A caller that times out only gives up
+ * while its order is still queued; once the writer has taken it, the caller waits for the
+ * verdict, so an order is never reported as failed while its insert may still land. Disabled,
+ * inserts go straight to the repository.
+ */
+@Slf4j
+@Component
+public class OrderInsertBatcher {
+
+    private record PendingInsert(Order order, CompletableFuture<Order> result) {
+    }
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Value("${order.group-commit.enabled:false}")
+    private boolean enabled;
+
+    @Value("${order.group-commit.max-batch:64}")
+    private int maxBatch;
+
+    @Value("${order.group-commit.max-wait-micros:500}")
+    private long maxWaitMicros;
+
+    @Value("${order.group-commit.timeout-ms:10000}")
+    private long timeoutMs;
+
+    private final BlockingQueue<PendingInsert> queue = new LinkedBlockingQueue<>();
+
+    private volatile Thread writer;
+
+    @PostConstruct
+    public void start() {
+        if (enabled) {
+            writer = Thread.ofVirtual().name("order-group-commit").start(this::writeLoop);
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (writer != null) {
+            writer.interrupt();
+        }
+    }
+
+    public Order insert(Order order) throws Exception {
+        if (writer == null) {
+            return orderRepository.insert(order);
+        }
+        if (order.getId() == null) {
+            order.setId(new ObjectId().toHexString());
+        }
+        PendingInsert pending = new PendingInsert(order, new CompletableFuture<>());
+        queue.add(pending);
+        try {
+            try {
+                return pending.result().get(timeoutMs, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                if (queue.remove(pending)) {
+                    throw e;
+                }
+                return pending.result().get();
+            }
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof Exception cause ? cause : e;
+        }
+    }
+
+    private void writeLoop() {
+        List<PendingInsert> batch = new ArrayList<>(maxBatch);
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                batch.add(queue.take());
+                long deadline = System.nanoTime() + TimeUnit.MICROSECONDS.toNanos(maxWaitMicros);
+                while (batch.size() < maxBatch) {
+                    PendingInsert next = queue.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                write(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                batch.clear();
+            }
+        }
+        PendingInsert remaining;
+        while ((remaining = queue.poll()) != null) {
+            remaining.result().completeExceptionally(new IllegalStateException("Order service is shutting down"));
+        }
+    }
+
+    private void write(List<PendingInsert> batch) {
+        boolean[] failed = new boolean[batch.size()];
+        try {
+            mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Order.class)
+                    .insert(batch.stream().map(PendingInsert::order).toList())
+                    .execute();
+        } catch (BulkOperationException e) {
+            for (BulkWriteError error : e.getErrors()) {
+                failed[error.getIndex()] = true;
+                batch.get(error.getIndex()).result().completeExceptionally(new IllegalStateException(error.getMessage()));
+            }
+        } catch (Exception e) {
+            log.error("Failed to write order batch: " + e.getMessage());
+            batch.forEach(pending -> pending.result().completeExceptionally(e));
+            return;
+        }
+        for (int i = 0; i < batch.size(); i++) {
+            if (!failed[i]) {
+                batch.get(i).result().complete(batch.get(i).order());
+            }
+        }
+    }
+
+}
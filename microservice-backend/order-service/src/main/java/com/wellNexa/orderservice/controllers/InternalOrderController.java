@@ -0,0 +1,25 @@
+package com.wellNexa.orderservice.controllers;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import com.wellNexa.orderservice.dtos.ApiResponseDto;
+import com.wellNexa.orderservice.exceptions.InvalidRequestException;
+import com.wellNexa.orderservice.exceptions.ServiceLogicException;
+import com.wellNexa.orderservice.services.OrderService;
+
+@RestController
+@RequestMapping("/internal/order")
+public class InternalOrderController {
+
+    @Autowired
+    private OrderService orderService;
+
+    @GetMapping("/baskets")
+    ResponseEntity<ApiResponseDto<?>> getOrderBaskets(@RequestParam(required = false) String cursor,
+                                                      @RequestParam(defaultValue = "1000") int size) throws ServiceLogicException, InvalidRequestException {
+        return orderService.getOrderBaskets(cursor, size);
+    }
+
+}
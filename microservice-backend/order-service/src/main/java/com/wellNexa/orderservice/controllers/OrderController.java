@@ -1,17 +1,31 @@
 package com.wellNexa.orderservice.controllers;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.wellNexa.orderservice.dtos.ApiResponseDto;
+import com.wellNexa.orderservice.dtos.OrderFilterRequestDto;
 import com.wellNexa.orderservice.dtos.OrderRequestDto;
+import com.wellNexa.orderservice.dtos.OrderStatusBulkRequestDto;
+import com.wellNexa.orderservice.enums.EOrderExportFormat;
+import com.wellNexa.orderservice.enums.EOrderPaymentStatus;
+import com.wellNexa.orderservice.enums.EOrderStatus;
+import com.wellNexa.orderservice.exceptions.InvalidRequestException;
+import com.wellNexa.orderservice.exceptions.OrderInProgressException;
+import com.wellNexa.orderservice.exceptions.OrderStatusConflictException;
 import com.wellNexa.orderservice.exceptions.ResourceNotFoundException;
 import com.wellNexa.orderservice.exceptions.ServiceLogicException;
 import com.wellNexa.orderservice.services.OrderService;
 
+import java.time.LocalDate;
+
 @RestController
 @RequestMapping("/order")
 public class OrderController {
@@ -21,27 +35,81 @@ public class OrderController {
 
     @PostMapping("/create")
     @PreAuthorize("hasRole('ROLE_USER')")
-    ResponseEntity<ApiResponseDto<?>> createOrder(Authentication authentication, @RequestBody OrderRequestDto request) throws ResourceNotFoundException, ServiceLogicException {
-        System.out.println(authentication.getCredentials().toString());
-        return orderService.createOrder(authentication.getCredentials().toString(), request);
+    ResponseEntity<ApiResponseDto<?>> createOrder(Authentication authentication,
+                                                  @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+                                                  @RequestBody OrderRequestDto request) throws ResourceNotFoundException, ServiceLogicException, OrderInProgressException {
+        return orderService.createOrder(authentication.getPrincipal().toString(), authentication.getCredentials().toString(), idempotencyKey, request);
     }
 
     @GetMapping("/get/byUser")
     @PreAuthorize("hasRole('ROLE_USER')")
-    ResponseEntity<ApiResponseDto<?>> getOrdersByUser(Authentication authentication) throws ResourceNotFoundException, ServiceLogicException {
-        return orderService.getOrdersByUser(authentication.getPrincipal().toString());
+    ResponseEntity<ApiResponseDto<?>> getOrdersByUser(Authentication authentication,
+                                                      @RequestParam(required = false) String cursor,
+                                                      @RequestParam(defaultValue = "20") int size) throws ServiceLogicException, InvalidRequestException {
+        return orderService.getOrdersByUser(authentication.getPrincipal().toString(), cursor, size);
+    }
+
+    @GetMapping("/get/byId")
+    @PreAuthorize("hasRole('ROLE_USER')")
+    ResponseEntity<ApiResponseDto<?>> getOrderById(Authentication authentication, @RequestParam String orderId) throws ResourceNotFoundException, ServiceLogicException {
+        return orderService.getOrderById(authentication.getPrincipal().toString(), orderId);
+    }
+
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @PreAuthorize("hasRole('ROLE_USER')")
+    SseEmitter subscribeToOrderUpdates(Authentication authentication) {
+        return orderService.subscribeToOrderUpdates(authentication.getPrincipal().toString());
     }
 
     @GetMapping("/get/all")
     @PreAuthorize("hasRole('ROLE_ADMIN')")
-    ResponseEntity<ApiResponseDto<?>> getAllOrders() throws ResourceNotFoundException, ServiceLogicException {
-        return orderService.getAllOrders();
+    ResponseEntity<ApiResponseDto<?>> getAllOrders(@ModelAttribute OrderFilterRequestDto filter) throws ServiceLogicException, InvalidRequestException {
+        return orderService.getAllOrders(filter);
+    }
+
+    @GetMapping("/export")
+    @PreAuthorize("hasRole('ROLE_ADMIN')")
+    ResponseEntity<StreamingResponseBody> exportOrders(@ModelAttribute OrderFilterRequestDto filter,
+                                                       @RequestParam(defaultValue = "CSV") EOrderExportFormat format) {
+        return orderService.exportOrders(filter, format);
+    }
+
+    @GetMapping("/stats")
+    @PreAuthorize("hasRole('ROLE_ADMIN')")
+    ResponseEntity<ApiResponseDto<?>> getOrderStats(@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                    @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                                                    @RequestParam(defaultValue = "10") int top) throws ServiceLogicException {
+        return orderService.getOrderStats(from, to, top);
+    }
+
+    @PostMapping("/stats/rebuild")
+    @PreAuthorize("hasRole('ROLE_ADMIN')")
+    ResponseEntity<ApiResponseDto<?>> rebuildOrderStats() throws ServiceLogicException {
+        return orderService.rebuildOrderStats();
     }
 
     @PatchMapping("/cancel")
     @PreAuthorize("hasRole('ROLE_USER')")
-    ResponseEntity<ApiResponseDto<?>> cancelOrder(@RequestParam String orderId) throws ResourceNotFoundException, ServiceLogicException {
-        return orderService.cancelOrder(orderId);
+    ResponseEntity<ApiResponseDto<?>> cancelOrder(Authentication authentication, @RequestParam String orderId) throws ResourceNotFoundException, ServiceLogicException, OrderStatusConflictException {
+        return orderService.cancelOrder(authentication.getPrincipal().toString(), orderId);
+    }
+
+    @PatchMapping("/status")
+    @PreAuthorize("hasRole('ROLE_ADMIN')")
+    ResponseEntity<ApiResponseDto<?>> updateOrderStatus(@RequestParam String orderId, @RequestParam EOrderStatus status) throws ResourceNotFoundException, ServiceLogicException, OrderStatusConflictException {
+        return orderService.updateOrderStatus(orderId, status);
+    }
+
+    @PatchMapping("/status/bulk")
+    @PreAuthorize("hasRole('ROLE_ADMIN')")
+    ResponseEntity<ApiResponseDto<?>> updateOrderStatuses(@RequestBody OrderStatusBulkRequestDto request) throws ServiceLogicException, InvalidRequestException {
+        return orderService.updateOrderStatuses(request);
+    }
+
+    @PatchMapping("/payment")
+    @PreAuthorize("hasRole('ROLE_ADMIN')")
+    ResponseEntity<ApiResponseDto<?>> updatePaymentStatus(@RequestParam String orderId, @RequestParam EOrderPaymentStatus paymentStatus) throws ResourceNotFoundException, ServiceLogicException, OrderStatusConflictException {
+        return orderService.updatePaymentStatus(orderId, paymentStatus);
     }
 
 
@@ -0,0 +1,34 @@
+package com.wellNexa.orderservice.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import com.wellNexa.orderservice.modals.Order;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderBasketDto {
+
+    private String orderId;
+
+    private List<String> productIds;
+
+    private boolean voided;
+
+    public static OrderBasketDto of(Order order, boolean voided) {
+        return OrderBasketDto.builder()
+                .orderId(order.getId())
+                .productIds(order.getOrderItems() == null ? List.of() : order.getOrderItems().stream()
+                        .map(CartItemDto::getProductId)
+                        .toList())
+                .voided(voided)
+                .build();
+    }
+
+}
@@ -0,0 +1,32 @@
+package com.wellNexa.orderservice.dtos;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import com.wellNexa.orderservice.enums.EOrderPaymentStatus;
+import com.wellNexa.orderservice.enums.EOrderStatus;
+
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+public class OrderFilterRequestDto {
+
+    private EOrderStatus status;
+
+    private EOrderPaymentStatus paymentStatus;
+
+    private String city;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate from;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate to;
+
+    private String cursor;
+
+    private int size = 50;
+
+}
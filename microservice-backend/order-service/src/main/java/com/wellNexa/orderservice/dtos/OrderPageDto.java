@@ -0,0 +1,16 @@
+package com.wellNexa.orderservice.dtos;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class OrderPageDto<T> {
+
+    private List<T> items;
+
+    private String nextCursor;
+
+}
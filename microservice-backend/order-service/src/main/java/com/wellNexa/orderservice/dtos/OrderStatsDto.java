@@ -0,0 +1,22 @@
+package com.wellNexa.orderservice.dtos;
+
+import lombok.Builder;
+import lombok.Data;
+
+import com.wellNexa.orderservice.modals.DailyOrderStats;
+import com.wellNexa.orderservice.modals.OrderStatusStats;
+import com.wellNexa.orderservice.modals.ProductSalesStats;
+
+import java.util.List;
+
+@Data
+@Builder
+public class OrderStatsDto {
+
+    private List<DailyOrderStats> daily;
+
+    private List<OrderStatusStats> byStatus;
+
+    private List<ProductSalesStats> topProducts;
+
+}
@@ -0,0 +1,20 @@
+package com.wellNexa.orderservice.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import com.wellNexa.orderservice.enums.EOrderStatus;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class OrderStatusBulkRequestDto {
+
+    private List<String> orderIds;
+
+    private EOrderStatus status;
+
+}
@@ -0,0 +1,20 @@
+package com.wellNexa.orderservice.dtos;
+
+import lombok.Builder;
+import lombok.Data;
+
+import com.wellNexa.orderservice.enums.EOrderStatus;
+
+import java.util.List;
+
+@Data
+@Builder
+public class OrderStatusBulkResultDto {
+
+    private EOrderStatus status;
+
+    private long updated;
+
+    private List<String> skippedOrderIds;
+
+}
@@ -0,0 +1,43 @@
+package com.wellNexa.orderservice.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import com.wellNexa.orderservice.enums.EOrderPaymentStatus;
+import com.wellNexa.orderservice.enums.EOrderStatus;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderSummaryDto {
+
+    private String id;
+
+    private String userId;
+
+    private String firstName;
+
+    private String lastName;
+
+    private String addressLine1;
+
+    private String addressLine2;
+
+    private String city;
+
+    private double orderAmt;
+
+    private LocalDateTime placedOn;
+
+    private EOrderStatus orderStatus;
+
+    private EOrderPaymentStatus paymentStatus;
+
+    private int itemCount;
+
+}
@@ -0,0 +1,20 @@
+package com.wellNexa.orderservice.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderedItemsRequestDto {
+
+    private String orderId;
+
+    private List<CartItemDto> items;
+
+}
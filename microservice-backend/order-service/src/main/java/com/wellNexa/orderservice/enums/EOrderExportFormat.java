@@ -0,0 +1,6 @@
+package com.wellNexa.orderservice.enums;
+
+public enum EOrderExportFormat {
+    CSV,
+    NDJSON
+}
@@ -1,6 +1,26 @@
 package com.wellNexa.orderservice.enums;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 public enum EOrderPaymentStatus {
     PAID,
-    UNPAID
+    UNPAID;
+
+    public boolean canTransitionTo(EOrderPaymentStatus next) {
+        return this == UNPAID && next == PAID;
+    }
+
+    /**
+     * Payment statuses an order may be in to move to {@code next}.
+     */
+    public static Set<EOrderPaymentStatus> sourcesOf(EOrderPaymentStatus next) {
+        Set<EOrderPaymentStatus> sources = EnumSet.noneOf(EOrderPaymentStatus.class);
+        for (EOrderPaymentStatus status : values()) {
+            if (status.canTransitionTo(next)) {
+                sources.add(status);
+            }
+        }
+        return sources;
+    }
 }
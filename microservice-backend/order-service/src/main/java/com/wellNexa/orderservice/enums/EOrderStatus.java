@@ -1,5 +1,10 @@
 package com.wellNexa.orderservice.enums;
 
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
 public enum EOrderStatus {
     PENDING,
     PROCESSING,
@@ -7,5 +12,34 @@ public enum EOrderStatus {
     SHIPPED,
     DELIVERED,
     CANCELLED,
-    RETURNED
+    RETURNED;
+
+    private static final Map<EOrderStatus, Set<EOrderStatus>> TRANSITIONS = new EnumMap<>(EOrderStatus.class);
+
+    static {
+        TRANSITIONS.put(PENDING, EnumSet.of(PROCESSING, CONFIRMED, CANCELLED));
+        TRANSITIONS.put(PROCESSING, EnumSet.of(CONFIRMED, CANCELLED));
+        TRANSITIONS.put(CONFIRMED, EnumSet.of(SHIPPED, CANCELLED));
+        TRANSITIONS.put(SHIPPED, EnumSet.of(DELIVERED, RETURNED));
+        TRANSITIONS.put(DELIVERED, EnumSet.of(RETURNED));
+        TRANSITIONS.put(CANCELLED, EnumSet.noneOf(EOrderStatus.class));
+        TRANSITIONS.put(RETURNED, EnumSet.noneOf(EOrderStatus.class));
+    }
+
+    public boolean canTransitionTo(EOrderStatus next) {
+        return TRANSITIONS.get(this).contains(next);
+    }
+
+    /**
+     * Statuses an order may be in to move to {@code next}.
+     */
+    public static Set<EOrderStatus> sourcesOf(EOrderStatus next) {
+        Set<EOrderStatus> sources = EnumSet.noneOf(EOrderStatus.class);
+        for (EOrderStatus status : values()) {
+            if (status.canTransitionTo(next)) {
+                sources.add(status);
+            }
+        }
+        return sources;
+    }
 }
@@ -0,0 +1,8 @@
+package com.wellNexa.orderservice.enums;
+
+public enum EOrderTaskType {
+    CLEAR_CART,
+    SEND_CONFIRMATION_EMAIL,
+    PUBLISH_BASKET,
+    RETRACT_BASKET
+}
@@ -0,0 +1,25 @@
+package com.wellNexa.orderservice.events;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import com.wellNexa.orderservice.enums.EOrderPaymentStatus;
+import com.wellNexa.orderservice.enums.EOrderStatus;
+
+import java.time.LocalDateTime;
+
+@Getter
+@AllArgsConstructor
+public class OrderStatusChangedEvent {
+
+    private String orderId;
+
+    private String userId;
+
+    private EOrderStatus orderStatus;
+
+    private EOrderPaymentStatus paymentStatus;
+
+    private LocalDateTime changedAt;
+
+}
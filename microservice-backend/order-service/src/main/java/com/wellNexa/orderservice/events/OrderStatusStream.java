@@ -0,0 +1,158 @@
+package com.wellNexa.orderservice.events;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Pushes order status changes to the users who own the orders over server-sent events.
+ * Connections are async servlet requests, so an idle subscriber holds no thread; events are
+ * queued per connection and written from a virtual thread, so a slow client never delays the
+ * request that changed the order and still sees its transitions in order.
+ * Periodic heartbeats keep proxies from closing quiet streams and reveal dead ones.
+ */
+@Slf4j
+@Component
+public class OrderStatusStream {
+
+    private static final String EVENT_NAME = "order-status";
+
+    private final Map<String, Deque<Subscriber>> subscribers = new ConcurrentHashMap<>();
+
+    private final ExecutorService sendExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    @Value("${order.events.timeout-ms:1800000}")
+    private long timeoutMs;
+
+    @Value("${order.events.max-connections-per-user:5}")
+    private int maxConnectionsPerUser;
+
+    /**
+     * Opens a stream for the user. Connections are kept in the order they were opened, so a user
+     * at the limit loses the oldest one.
+     */
+    public SseEmitter subscribe(String userId) {
+        Subscriber subscriber = new Subscriber(userId, new SseEmitter(timeoutMs));
+        List<Subscriber> evicted = new ArrayList<>();
+        subscribers.compute(userId, (id, current) -> {
+            Deque<Subscriber> connections = current != null ? current : new ConcurrentLinkedDeque<>();
+            while (connections.size() >= maxConnectionsPerUser && !connections.isEmpty()) {
+                evicted.add(connections.pollFirst());
+            }
+            connections.addLast(subscriber);
+            return connections;
+        });
+        evicted.forEach(Subscriber::close);
+
+        SseEmitter emitter = subscriber.emitter;
+        emitter.onCompletion(() -> unsubscribe(subscriber));
+        emitter.onTimeout(() -> unsubscribe(subscriber));
+        emitter.onError(e -> unsubscribe(subscriber));
+        subscriber.enqueue(SseEmitter.event().comment("connected"));
+        return emitter;
+    }
+
+    @EventListener
+    public void onOrderStatusChanged(OrderStatusChangedEvent event) {
+        Deque<Subscriber> connections = subscribers.get(event.getUserId());
+        if (connections == null || connections.isEmpty()) {
+            return;
+        }
+        for (Subscriber subscriber : connections) {
+            subscriber.enqueue(SseEmitter.event()
+                    .name(EVENT_NAME)
+                    .id(event.getOrderId())
+                    .data(event));
+        }
+    }
+
+    @Scheduled(initialDelayString = "${order.events.heartbeat-ms:15000}",
+            fixedDelayString = "${order.events.heartbeat-ms:15000}")
+    public void heartbeat() {
+        subscribers.forEach((userId, connections) -> {
+            for (Subscriber subscriber : connections) {
+                subscriber.enqueue(SseEmitter.event().comment("keepalive"));
+            }
+        });
+    }
+
+    private void unsubscribe(Subscriber subscriber) {
+        subscribers.computeIfPresent(subscriber.userId, (id, connections) -> {
+            connections.remove(subscriber);
+            return connections.isEmpty() ? null : connections;
+        });
+    }
+
+    /**
+     * One connection with its own outgoing queue. At most one virtual thread drains the queue at
+     * a time, so events reach the client in the order they were raised without a slow client
+     * holding up the publisher or the other connections.
+     */
+    private class Subscriber {
+
+        private final String userId;
+
+        private final SseEmitter emitter;
+
+        private final Queue<SseEmitter.SseEventBuilder> pending = new ConcurrentLinkedQueue<>();
+
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        private volatile boolean closed;
+
+        private Subscriber(String userId, SseEmitter emitter) {
+            this.userId = userId;
+            this.emitter = emitter;
+        }
+
+        private void enqueue(SseEmitter.SseEventBuilder event) {
+            if (closed) {
+                return;
+            }
+            pending.add(event);
+            if (draining.compareAndSet(false, true)) {
+                sendExecutor.execute(this::drain);
+            }
+        }
+
+        private void close() {
+            closed = true;
+            pending.clear();
+            emitter.complete();
+        }
+
+        private void drain() {
+            do {
+                SseEmitter.SseEventBuilder event;
+                while ((event = pending.poll()) != null) {
+                    try {
+                        emitter.send(event);
+                    } catch (Exception e) {
+                        closed = true;
+                        pending.clear();
+                        unsubscribe(this);
+                        emitter.completeWithError(e);
+                    }
+                }
+                draining.set(false);
+            } while (!pending.isEmpty() && draining.compareAndSet(false, true));
+        }
+
+    }
+
+}
@@ -6,6 +6,9 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
 import com.wellNexa.orderservice.dtos.ApiResponseDto;
+import com.wellNexa.orderservice.exceptions.InvalidRequestException;
+import com.wellNexa.orderservice.exceptions.OrderInProgressException;
+import com.wellNexa.orderservice.exceptions.OrderStatusConflictException;
 import com.wellNexa.orderservice.exceptions.ResourceNotFoundException;
 import com.wellNexa.orderservice.exceptions.ServiceLogicException;
 
@@ -31,4 +34,34 @@ public class RestExceptionHandler {
         );
     }
 
+    @ExceptionHandler(value = OrderInProgressException.class)
+    public ResponseEntity<ApiResponseDto<?>> OrderInProgressExceptionHandler(OrderInProgressException exception) {
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(
+                ApiResponseDto.builder()
+                        .isSuccess(false)
+                        .message(exception.getMessage())
+                        .build()
+        );
+    }
+
+    @ExceptionHandler(value = OrderStatusConflictException.class)
+    public ResponseEntity<ApiResponseDto<?>> OrderStatusConflictExceptionHandler(OrderStatusConflictException exception) {
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(
+                ApiResponseDto.builder()
+                        .isSuccess(false)
+                        .message(exception.getMessage())
+                        .build()
+        );
+    }
+
+    @ExceptionHandler(value = InvalidRequestException.class)
+    public ResponseEntity<ApiResponseDto<?>> InvalidRequestExceptionHandler(InvalidRequestException exception) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(
+                ApiResponseDto.builder()
+                        .isSuccess(false)
+                        .message(exception.getMessage())
+                        .build()
+        );
+    }
+
 }
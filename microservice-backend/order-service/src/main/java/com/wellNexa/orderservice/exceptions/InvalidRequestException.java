@@ -0,0 +1,7 @@
+package com.wellNexa.orderservice.exceptions;
+
+public class InvalidRequestException extends Exception {
+    public InvalidRequestException(String s) {
+        super(s);
+    }
+}
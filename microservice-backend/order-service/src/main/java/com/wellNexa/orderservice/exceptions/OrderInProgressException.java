@@ -0,0 +1,7 @@
+package com.wellNexa.orderservice.exceptions;
+
+public class OrderInProgressException extends Exception {
+    public OrderInProgressException(String s) {
+        super(s);
+    }
+}
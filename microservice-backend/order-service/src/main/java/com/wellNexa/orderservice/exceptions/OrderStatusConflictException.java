@@ -0,0 +1,7 @@
+package com.wellNexa.orderservice.exceptions;
+
+public class OrderStatusConflictException extends Exception {
+    public OrderStatusConflictException(String s) {
+        super(s);
+    }
+}
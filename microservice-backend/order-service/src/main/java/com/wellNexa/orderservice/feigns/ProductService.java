@@ -0,0 +1,18 @@
+package com.wellNexa.orderservice.feigns;
+
+import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+
+import com.wellNexa.orderservice.dtos.ApiResponseDto;
+import com.wellNexa.orderservice.dtos.OrderBasketDto;
+
+@FeignClient("PRODUCT-SERVICE")
+public interface ProductService {
+
+    @PostMapping("/internal/product/related/baskets")
+    ResponseEntity<ApiResponseDto<?>> recordOrderBasket(@RequestHeader("X-Service-Token") String serviceToken, @RequestBody OrderBasketDto basket);
+
+}
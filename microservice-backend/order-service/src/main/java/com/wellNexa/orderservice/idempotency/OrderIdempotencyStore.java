@@ -0,0 +1,170 @@
+package com.wellNexa.orderservice.idempotency;
+
+import com.mongodb.client.result.UpdateResult;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import com.wellNexa.orderservice.enums.EIdempotencyStatus;
+import com.wellNexa.orderservice.exceptions.OrderInProgressException;
+import com.wellNexa.orderservice.modals.IdempotencyRecord;
+import com.wellNexa.orderservice.modals.Order;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Dedupe table for order creation keyed by the client's {@code Idempotency-Key} and the user.
+ * The first request claims the key with an insert into {@code order_idempotency}; repeats of a
+ * completed request are answered from the stored result, first from a bounded in-memory LRU and
+ * then from Mongo, without touching cart, user or notification services. A claim carries a lease
+ * so a request that died mid-way does not block its key until the record expires.
+ */
+@Component
+public class OrderIdempotencyStore {
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Value("${order.idempotency.lease-ms:30000}")
+    private long leaseMs;
+
+    private final Map<String, IdempotencyRecord> completed;
+
+    public OrderIdempotencyStore(@Value("${order.idempotency.cache-size:10000}") int cacheSize) {
+        this.completed = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, IdempotencyRecord> eldest) {
+                return size() > cacheSize;
+            }
+        });
+    }
+
+    /**
+     * Claims the key for a new request. Returns the stored record when the request has already
+     * completed, or an {@code IN_PROGRESS} record carrying the caller's claim id when the caller
+     * now owns the key and should create the order. A lapsed claim whose reserved order was
+     * already inserted is completed with that order instead of being handed out again.
+     */
+    public IdempotencyRecord claim(String userId, String key) throws OrderInProgressException {
+        String id = recordId(userId, key);
+        IdempotencyRecord cached = completed.get(id);
+        if (cached != null) {
+            return cached;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        String claimId = UUID.randomUUID().toString();
+        try {
+            return mongoTemplate.insert(IdempotencyRecord.builder()
+                    .id(id)
+                    .status(EIdempotencyStatus.IN_PROGRESS)
+                    .claimId(claimId)
+                    .leaseUntil(lease(now))
+                    .createdAt(now)
+                    .build());
+        } catch (DuplicateKeyException e) {
+            IdempotencyRecord existing = mongoTemplate.findById(id, IdempotencyRecord.class);
+            if (existing != null && existing.getStatus() == EIdempotencyStatus.COMPLETED) {
+                completed.put(id, existing);
+                return existing;
+            }
+            IdempotencyRecord reclaimed = mongoTemplate.findAndModify(
+                    Query.query(Criteria.where("id").is(id)
+                            .and("status").is(EIdempotencyStatus.IN_PROGRESS)
+                            .and("leaseUntil").lt(now)),
+                    new Update().set("claimId", claimId).set("leaseUntil", lease(now)).unset("orderId").unset("message"),
+                    IdempotencyRecord.class
+            );
+            if (reclaimed == null) {
+                throw new OrderInProgressException("An order with this idempotency key is already being placed!");
+            }
+            if (reclaimed.getOrderId() != null && orderExists(reclaimed.getOrderId())) {
+                return complete(userId, key, claimId, reclaimed.getOrderId(), reclaimed.getMessage());
+            }
+            reclaimed.setClaimId(claimId);
+            reclaimed.setOrderId(null);
+            reclaimed.setMessage(null);
+            return reclaimed;
+        }
+    }
+
+    /**
+     * Records the order the claim is about to insert and the message it will answer with, so that
+     * a claim which lapses after the insert resolves to that order rather than placing a second one.
+     */
+    public void reserve(String userId, String key, String claimId, String orderId, String message) throws OrderInProgressException {
+        UpdateResult result = mongoTemplate.updateFirst(
+                owned(userId, key, claimId),
+                new Update().set("orderId", orderId).set("message", message),
+                IdempotencyRecord.class
+        );
+        if (result.getMatchedCount() == 0) {
+            throw new OrderInProgressException("An order with this idempotency key is already being placed!");
+        }
+    }
+
+    public IdempotencyRecord complete(String userId, String key, String claimId, String orderId, String message) {
+        String id = recordId(userId, key);
+        IdempotencyRecord record = IdempotencyRecord.builder()
+                .id(id)
+                .status(EIdempotencyStatus.COMPLETED)
+                .orderId(orderId)
+                .message(message)
+                .build();
+        UpdateResult result = mongoTemplate.updateFirst(
+                owned(userId, key, claimId),
+                new Update()
+                        .set("status", EIdempotencyStatus.COMPLETED)
+                        .set("orderId", orderId)
+                        .set("message", message)
+                        .unset("claimId")
+                        .unset("leaseUntil"),
+                IdempotencyRecord.class
+        );
+        if (result.getMatchedCount() > 0) {
+            completed.put(id, record);
+        }
+        return record;
+    }
+
+    /**
+     * Gives the key up after a failed request so that the client's retry is processed afresh.
+     * Only the current claim can release it, and never once its reserved order has been inserted;
+     * such a claim is left to lapse and resolve to that order.
+     */
+    public void release(String userId, String key, String claimId) {
+        IdempotencyRecord record = mongoTemplate.findOne(owned(userId, key, claimId), IdempotencyRecord.class);
+        if (record == null || (record.getOrderId() != null && orderExists(record.getOrderId()))) {
+            return;
+        }
+        mongoTemplate.remove(owned(userId, key, claimId), IdempotencyRecord.class);
+    }
+
+    private Query owned(String userId, String key, String claimId) {
+        return Query.query(Criteria.where("id").is(recordId(userId, key))
+                .and("status").is(EIdempotencyStatus.IN_PROGRESS)
+                .and("claimId").is(claimId));
+    }
+
+    private boolean orderExists(String orderId) {
+        return mongoTemplate.exists(Query.query(Criteria.where("id").is(orderId)), Order.class);
+    }
+
+    private LocalDateTime lease(LocalDateTime now) {
+        return now.plusNanos(leaseMs * 1_000_000);
+    }
+
+    private String recordId(String userId, String key) {
+        return userId + ":" + key;
+    }
+
+}
@@ -0,0 +1,119 @@
+package com.wellNexa.orderservice.modals;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import com.wellNexa.orderservice.dtos.CartItemDto;
+import com.wellNexa.orderservice.enums.EOrderPaymentStatus;
+import com.wellNexa.orderservice.enums.EOrderStatus;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Compact copy of a completed order moved out of {@code orders}. Top level fields keep the names
+ * used in {@link Order} so the same queries and cursors run against both collections, while line
+ * items only keep what history and analytics read, under short keys, and the task lists are gone.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "orders_archive")
+@CompoundIndex(name = "user_placed", def = "{'userId': 1, 'placedOn': -1, '_id': -1}")
+@CompoundIndex(name = "placed", def = "{'placedOn': -1, '_id': -1}")
+public class ArchivedOrder {
+
+    @Id
+    private String id;
+
+    private String userId;
+
+    private String firstName;
+
+    private String lastName;
+
+    private String addressLine1;
+
+    private String addressLine2;
+
+    private String city;
+
+    private String phoneNo;
+
+    private double orderAmt;
+
+    private LocalDateTime placedOn;
+
+    private LocalDateTime archivedOn;
+
+    private EOrderStatus orderStatus;
+
+    private EOrderPaymentStatus paymentStatus;
+
+    private List<ArchivedOrderItem> orderItems;
+
+    public static ArchivedOrder of(Order order, LocalDateTime archivedOn) {
+        return ArchivedOrder.builder()
+                .id(order.getId())
+                .userId(order.getUserId())
+                .firstName(order.getFirstName())
+                .lastName(order.getLastName())
+                .addressLine1(order.getAddressLine1())
+                .addressLine2(order.getAddressLine2())
+                .city(order.getCity())
+                .phoneNo(order.getPhoneNo())
+                .orderAmt(order.getOrderAmt())
+                .placedOn(order.getPlacedOn())
+                .archivedOn(archivedOn)
+                .orderStatus(order.getOrderStatus())
+                .paymentStatus(order.getPaymentStatus())
+                .orderItems(order.getOrderItems() == null ? List.of() : order.getOrderItems().stream()
+                        .map(item -> ArchivedOrderItem.builder()
+                                .productId(item.getProductId())
+                                .productName(item.getProductName())
+                                .quantity(item.getQuantity())
+                                .amount(item.getAmount())
+                                .build())
+                        .toList())
+                .build();
+    }
+
+    public Order toOrder() {
+        Set<CartItemDto> items = new LinkedHashSet<>();
+        if (orderItems != null) {
+            for (ArchivedOrderItem item : orderItems) {
+                items.add(CartItemDto.builder()
+                        .productId(item.getProductId())
+                        .productName(item.getProductName())
+                        .quantity(item.getQuantity())
+                        .amount(item.getAmount())
+                        .price(item.getQuantity() > 0 ? item.getAmount() / item.getQuantity() : 0)
+                        .build());
+            }
+        }
+        return Order.builder()
+                .id(id)
+                .userId(userId)
+                .firstName(firstName)
+                .lastName(lastName)
+                .addressLine1(addressLine1)
+                .addressLine2(addressLine2)
+                .city(city)
+                .phoneNo(phoneNo)
+                .orderAmt(orderAmt)
+                .placedOn(placedOn)
+                .orderStatus(orderStatus)
+                .paymentStatus(paymentStatus)
+                .orderItems(items)
+                .build();
+    }
+
+}
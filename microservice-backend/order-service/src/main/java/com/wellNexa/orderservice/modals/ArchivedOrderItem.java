@@ -0,0 +1,27 @@
+package com.wellNexa.orderservice.modals;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.mongodb.core.mapping.Field;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArchivedOrderItem {
+
+    @Field("p")
+    private String productId;
+
+    @Field("n")
+    private String productName;
+
+    @Field("q")
+    private int quantity;
+
+    @Field("a")
+    private double amount;
+
+}
@@ -0,0 +1,24 @@
+package com.wellNexa.orderservice.modals;
+
+import lombok.Builder;
+import lombok.Data;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+@Data
+@Builder
+@Document(collection = "order_stats_daily")
+public class DailyOrderStats {
+
+    @Id
+    private String day;
+
+    private long orders;
+
+    private double revenue;
+
+    private long voidedOrders;
+
+    private double voidedRevenue;
+
+}
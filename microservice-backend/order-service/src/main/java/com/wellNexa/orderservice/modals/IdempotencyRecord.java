@@ -0,0 +1,34 @@
+package com.wellNexa.orderservice.modals;
+
+import lombok.Builder;
+import lombok.Data;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import com.wellNexa.orderservice.enums.EIdempotencyStatus;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@Document(collection = "order_idempotency")
+public class IdempotencyRecord {
+
+    @Id
+    private String id;
+
+    private EIdempotencyStatus status;
+
+    private String claimId;
+
+    private String orderId;
+
+    private String message;
+
+    private LocalDateTime leaseUntil;
+
+    @Indexed(expireAfter = "24h")
+    private LocalDateTime createdAt;
+
+}
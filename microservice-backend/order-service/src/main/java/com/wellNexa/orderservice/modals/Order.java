@@ -1,8 +1,10 @@
 package com.wellNexa.orderservice.modals;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.Builder;
 import lombok.Data;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import com.wellNexa.orderservice.dtos.CartItemDto;
@@ -10,11 +12,18 @@ import com.wellNexa.orderservice.enums.EOrderPaymentStatus;
 import com.wellNexa.orderservice.enums.EOrderStatus;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Set;
 
 @Data
 @Builder
 @Document(collection = "orders")
+@CompoundIndex(name = "user_placed", def = "{'userId': 1, 'placedOn': -1, '_id': -1}")
+@CompoundIndex(name = "placed", def = "{'placedOn': -1, '_id': -1}")
+@CompoundIndex(name = "status_placed", def = "{'orderStatus': 1, 'placedOn': -1, '_id': -1}")
+@CompoundIndex(name = "payment_placed", def = "{'paymentStatus': 1, 'placedOn': -1, '_id': -1}")
+@CompoundIndex(name = "city_placed", def = "{'city': 1, 'placedOn': -1, '_id': -1}")
+@CompoundIndex(name = "pending_tasks_due", def = "{'pendingTasks.nextAttemptAt': 1}", sparse = true)
 public class Order {
 
     @Id
@@ -44,4 +53,10 @@ public class Order {
 
     private Set<CartItemDto> orderItems;
 
+    @JsonIgnore
+    private List<OrderTask> pendingTasks;
+
+    @JsonIgnore
+    private List<OrderTask> failedTasks;
+
 }
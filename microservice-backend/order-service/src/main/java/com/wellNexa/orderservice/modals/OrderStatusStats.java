@@ -0,0 +1,20 @@
+package com.wellNexa.orderservice.modals;
+
+import lombok.Builder;
+import lombok.Data;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import com.wellNexa.orderservice.enums.EOrderStatus;
+
+@Data
+@Builder
+@Document(collection = "order_stats_status")
+public class OrderStatusStats {
+
+    @Id
+    private EOrderStatus status;
+
+    private long count;
+
+}
@@ -0,0 +1,30 @@
+package com.wellNexa.orderservice.modals;
+
+import lombok.Builder;
+import lombok.Data;
+
+import com.wellNexa.orderservice.enums.EOrderTaskType;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+public class OrderTask {
+
+    private EOrderTaskType type;
+
+    private int attempts;
+
+    private LocalDateTime nextAttemptAt;
+
+    private String claimId;
+
+    private String lastError;
+
+    private String cartId;
+
+    private String email;
+
+    private String username;
+
+}
@@ -0,0 +1,25 @@
+package com.wellNexa.orderservice.modals;
+
+import lombok.Builder;
+import lombok.Data;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.IndexDirection;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+@Data
+@Builder
+@Document(collection = "order_stats_products")
+public class ProductSalesStats {
+
+    @Id
+    private String productId;
+
+    private String productName;
+
+    @Indexed(direction = IndexDirection.DESCENDING)
+    private long quantity;
+
+    private double revenue;
+
+}
@@ -0,0 +1,229 @@
+package com.wellNexa.orderservice.outbox;
+
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.wellNexa.orderservice.dtos.ApiResponseDto;
+import com.wellNexa.orderservice.dtos.CartItemDto;
+import com.wellNexa.orderservice.dtos.MailRequestDto;
+import com.wellNexa.orderservice.dtos.OrderBasketDto;
+import com.wellNexa.orderservice.dtos.OrderedItemsRequestDto;
+import com.wellNexa.orderservice.feigns.CartService;
+import com.wellNexa.orderservice.feigns.NotificationService;
+import com.wellNexa.orderservice.feigns.ProductService;
+import com.wellNexa.orderservice.modals.Order;
+import com.wellNexa.orderservice.modals.OrderTask;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Delivers the side effects of placing an order, removing the ordered items from the cart,
+ * sending the confirmation email and publishing the basket to product-service, from the tasks
+ * stored on the order document itself. The tasks are written in the same insert or status update
+ * as the order, so neither checkout nor a cancellation waits on another service or SMTP, and no
+ * task is lost. Calls to other services carry the shared service token rather than the token of
+ * the user who placed the order. Each task is claimed with a lease by a conditional update,
+ * delivered on a virtual thread and either removed or rescheduled with exponential backoff. A
+ * task that keeps failing is moved to {@code failedTasks} after the configured number of attempts.
+ */
+@Slf4j
+@Component
+public class OrderTaskRelay {
+
+    private record ClaimedTask(Order order, OrderTask task) {
+    }
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private CartService cartService;
+
+    @Autowired
+    private NotificationService notificationService;
+
+    @Autowired
+    private ProductService productService;
+
+    @Value("${security.service-token:}")
+    private String serviceToken;
+
+    @Value("${order.outbox.batch-size:50}")
+    private int batchSize;
+
+    @Value("${order.outbox.lease-ms:60000}")
+    private long leaseMs;
+
+    @Value("${order.outbox.max-attempts:8}")
+    private int maxAttempts;
+
+    @Value("${order.outbox.initial-backoff-ms:2000}")
+    private long initialBackoffMs;
+
+    @Value("${order.outbox.max-backoff-ms:600000}")
+    private long maxBackoffMs;
+
+    private final ExecutorService deliveryExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final AtomicBoolean relaying = new AtomicBoolean();
+
+    /**
+     * Starts a relay pass in the background, so that tasks of an order that was just placed are
+     * delivered right away instead of on the next scheduled pass.
+     */
+    public void relaySoon() {
+        Thread.ofVirtual().name("order-task-relay").start(this::relay);
+    }
+
+    @Scheduled(fixedDelayString = "${order.outbox.relay-interval-ms:1000}")
+    public void relay() {
+        if (!relaying.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            List<ClaimedTask> claimed;
+            do {
+                claimed = claimDueTasks();
+                List<Callable<Void>> deliveries = new ArrayList<>(claimed.size());
+                claimed.forEach(claim -> deliveries.add(() -> {
+                    deliver(claim);
+                    return null;
+                }));
+                deliveryExecutor.invokeAll(deliveries);
+            } while (claimed.size() == batchSize);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.error("Failed to relay order tasks: " + e.getMessage());
+        } finally {
+            relaying.set(false);
+        }
+    }
+
+    private List<ClaimedTask> claimDueTasks() {
+        List<ClaimedTask> claimed = new ArrayList<>();
+        while (claimed.size() < batchSize) {
+            LocalDateTime now = LocalDateTime.now();
+            String claimId = UUID.randomUUID().toString();
+            Order order = mongoTemplate.findAndModify(
+                    Query.query(Criteria.where("pendingTasks").elemMatch(Criteria.where("nextAttemptAt").lte(now))),
+                    new Update()
+                            .set("pendingTasks.$.claimId", claimId)
+                            .set("pendingTasks.$.nextAttemptAt", now.plusNanos(leaseMs * 1_000_000))
+                            .inc("pendingTasks.$.attempts", 1),
+                    FindAndModifyOptions.options().returnNew(true),
+                    Order.class
+            );
+            if (order == null) {
+                break;
+            }
+            order.getPendingTasks().stream()
+                    .filter(task -> claimId.equals(task.getClaimId()))
+                    .findFirst()
+                    .ifPresent(task -> claimed.add(new ClaimedTask(order, task)));
+        }
+        return claimed;
+    }
+
+    private void deliver(ClaimedTask claim) {
+        OrderTask task = claim.task();
+        try {
+            boolean delivered = switch (task.getType()) {
+                case CLEAR_CART -> isSuccess(cartService.removeOrderedItems(serviceToken, task.getCartId(), OrderedItemsRequestDto.builder()
+                        .orderId(claim.order().getId())
+                        .items(new ArrayList<>(claim.order().getOrderItems()))
+                        .build()).getBody());
+                case SEND_CONFIRMATION_EMAIL -> isSuccess(notificationService.sendEmail(confirmationEmail(claim.order(), task)).getBody());
+                case PUBLISH_BASKET -> isSuccess(productService.recordOrderBasket(serviceToken, OrderBasketDto.of(claim.order(), false)).getBody());
+                case RETRACT_BASKET -> isSuccess(productService.recordOrderBasket(serviceToken, OrderBasketDto.of(claim.order(), true)).getBody());
+            };
+            if (!delivered) {
+                throw new IllegalStateException(task.getType() + " was rejected");
+            }
+            mongoTemplate.updateFirst(
+                    Query.query(Criteria.where("id").is(claim.order().getId())),
+                    new Update().pull("pendingTasks", new Document("claimId", task.getClaimId())),
+                    Order.class
+            );
+        } catch (Exception e) {
+            reschedule(claim, e.getMessage());
+        }
+    }
+
+    private void reschedule(ClaimedTask claim, String error) {
+        OrderTask task = claim.task();
+        Query claimedTask = Query.query(Criteria.where("id").is(claim.order().getId())
+                .and("pendingTasks.claimId").is(task.getClaimId()));
+        if (task.getAttempts() >= maxAttempts) {
+            task.setLastError(error);
+            mongoTemplate.updateFirst(
+                    claimedTask,
+                    new Update()
+                            .pull("pendingTasks", new Document("claimId", task.getClaimId()))
+                            .push("failedTasks", task),
+                    Order.class
+            );
+            log.error("Giving up on " + task.getType() + " for order " + claim.order().getId() + ": " + error);
+            return;
+        }
+        mongoTemplate.updateFirst(
+                claimedTask,
+                new Update()
+                        .set("pendingTasks.$.nextAttemptAt", LocalDateTime.now().plusNanos(backoffMs(task.getAttempts()) * 1_000_000))
+                        .set("pendingTasks.$.lastError", error),
+                Order.class
+        );
+        log.warn("Retrying " + task.getType() + " for order " + claim.order().getId() + ": " + error);
+    }
+
+    private long backoffMs(int attempts) {
+        long backoff = Math.min(maxBackoffMs, initialBackoffMs << Math.min(attempts - 1, 20));
+        return backoff / 2 + ThreadLocalRandom.current().nextLong(backoff / 2 + 1);
+    }
+
+    private boolean isSuccess(ApiResponseDto<?> response) {
+        return response != null && response.isSuccess();
+    }
+
+    private MailRequestDto confirmationEmail(Order order, OrderTask task) {
+        StringBuilder contentBuilder = new StringBuilder("Dear " + task.getUsername() + ",<br><br>"
+                + "<h2>Thank you for your order!</h2>"
+                + "<p>Your order #" + order.getId() + " has been successfully placed!</p>"
+                + "<h3>Order summary</h3>");
+        for( CartItemDto item: order.getOrderItems()) {
+            String description = item.getProductName() + ": " + item.getQuantity() + " x " + item.getPrice() + "<br>";
+            contentBuilder.append(description);
+        }
+
+        String content = contentBuilder.toString();
+
+        content += "<h4>Total: " + order.getOrderAmt() + "</h4>"
+                + "<p>Delivery charges be will added to your total at your doorstep!</p>"
+                + "<br>Thank you,<br>"
+                + "Purely.";
+
+        return MailRequestDto.builder()
+                .to(task.getEmail())
+                .subject("Purely - Order confirmation")
+                .body(content)
+                .build();
+    }
+
+}
@@ -0,0 +1,48 @@
+package com.wellNexa.orderservice.pagination;
+
+import org.bson.types.ObjectId;
+import org.springframework.data.mongodb.core.query.Criteria;
+
+import com.wellNexa.orderservice.exceptions.InvalidRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * Opaque keyset cursor over orders sorted by {@code placedOn} and then {@code _id}, both
+ * descending. The token carries the sort key of the last order on a page, so the next page is
+ * a range scan on the index instead of a skip.
+ */
+public record OrderCursor(LocalDateTime placedOn, String id) {
+
+    public static OrderCursor decode(String token) throws InvalidRequestException {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = decoded.lastIndexOf('|');
+            String id = decoded.substring(separator + 1);
+            if (!ObjectId.isValid(id)) {
+                throw new IllegalArgumentException("Invalid order id " + id);
+            }
+            return new OrderCursor(LocalDateTime.parse(decoded.substring(0, separator)), id);
+        } catch (Exception e) {
+            throw new InvalidRequestException("Invalid cursor!");
+        }
+    }
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((placedOn + "|" + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Matches the orders that sort strictly after this cursor.
+     */
+    public Criteria after() {
+        return new Criteria().orOperator(
+                Criteria.where("placedOn").lt(placedOn),
+                Criteria.where("placedOn").is(placedOn).and("_id").lt(new ObjectId(id))
+        );
+    }
+
+}
@@ -1,5 +1,6 @@
 package com.wellNexa.orderservice.security;
 
+import jakarta.annotation.PostConstruct;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -7,6 +8,7 @@ import jakarta.servlet.http.HttpServletResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -18,6 +20,8 @@ import org.springframework.web.filter.OncePerRequestFilter;
 import com.wellNexa.orderservice.feigns.AuthService;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
 import java.util.List;
 import java.util.Objects;
 import java.util.stream.Collectors;
@@ -25,18 +29,37 @@ import java.util.stream.Collectors;
 
 public class AuthTokenFilter extends OncePerRequestFilter {
 
+    public static final String SERVICE_TOKEN_HEADER = "X-Service-Token";
+
     @Autowired
     private AuthService authService;
 
+    @Value("${security.service-token:}")
+    private String serviceToken;
 
     private static final Logger logger = LoggerFactory.getLogger(AuthTokenFilter.class);
 
+    /**
+     * Internal endpoints only accept the service token, so a blank one would reject every call
+     * between services; refuse to start instead.
+     */
+    @PostConstruct
+    public void checkServiceToken() {
+        if (!StringUtils.hasText(serviceToken)) {
+            throw new IllegalStateException("security.service-token must be set, see SERVICE_TOKEN in the README");
+        }
+    }
+
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
         try {
             String jwt = parseJwt(request);
-            if (jwt != null) {
+            if (isServiceRequest(request)) {
+                UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
+                        "service", null, List.of(new SimpleGrantedAuthority("ROLE_SERVICE")));
+                SecurityContextHolder.getContext().setAuthentication(authentication);
+            } else if (jwt != null) {
                 UserDetails userDetails = Objects.requireNonNull(authService.validateToken(jwt).getBody()).getResponse();
 
                 List<GrantedAuthority> authorities = userDetails.getAuthorities().stream()
@@ -58,6 +81,15 @@ public class AuthTokenFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    /**
+     * Calls between services carry the shared service token instead of a user's JWT.
+     */
+    private boolean isServiceRequest(HttpServletRequest request) {
+        String header = request.getHeader(SERVICE_TOKEN_HEADER);
+        return header != null
+                && MessageDigest.isEqual(serviceToken.getBytes(StandardCharsets.UTF_8), header.getBytes(StandardCharsets.UTF_8));
+    }
+
     private String parseJwt(HttpServletRequest request) {
         String headerAuth = request.getHeader("Authorization");
 
@@ -2,19 +2,49 @@ package com.wellNexa.orderservice.services;
 
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.wellNexa.orderservice.dtos.ApiResponseDto;
+import com.wellNexa.orderservice.dtos.OrderFilterRequestDto;
 import com.wellNexa.orderservice.dtos.OrderRequestDto;
+import com.wellNexa.orderservice.dtos.OrderStatusBulkRequestDto;
+import com.wellNexa.orderservice.enums.EOrderExportFormat;
+import com.wellNexa.orderservice.enums.EOrderPaymentStatus;
+import com.wellNexa.orderservice.enums.EOrderStatus;
+import com.wellNexa.orderservice.exceptions.InvalidRequestException;
+import com.wellNexa.orderservice.exceptions.OrderInProgressException;
+import com.wellNexa.orderservice.exceptions.OrderStatusConflictException;
 import com.wellNexa.orderservice.exceptions.ResourceNotFoundException;
 import com.wellNexa.orderservice.exceptions.ServiceLogicException;
 
+import java.time.LocalDate;
+
 @Service
 public interface OrderService {
-    ResponseEntity<ApiResponseDto<?>> createOrder(String token, OrderRequestDto request) throws ResourceNotFoundException, ServiceLogicException;
+    ResponseEntity<ApiResponseDto<?>> createOrder(String userId, String token, String idempotencyKey, OrderRequestDto request) throws ResourceNotFoundException, ServiceLogicException, OrderInProgressException;
+
+    ResponseEntity<ApiResponseDto<?>> getOrdersByUser(String userId, String cursor, int size) throws ServiceLogicException, InvalidRequestException;
+
+    ResponseEntity<ApiResponseDto<?>> getOrderById(String userId, String orderId) throws ServiceLogicException, ResourceNotFoundException;
+
+    ResponseEntity<ApiResponseDto<?>> cancelOrder(String userId, String orderId) throws ServiceLogicException, ResourceNotFoundException, OrderStatusConflictException;
+
+    ResponseEntity<ApiResponseDto<?>> updateOrderStatus(String orderId, EOrderStatus status) throws ServiceLogicException, ResourceNotFoundException, OrderStatusConflictException;
+
+    ResponseEntity<ApiResponseDto<?>> updateOrderStatuses(OrderStatusBulkRequestDto request) throws ServiceLogicException, InvalidRequestException;
+
+    ResponseEntity<ApiResponseDto<?>> updatePaymentStatus(String orderId, EOrderPaymentStatus paymentStatus) throws ServiceLogicException, ResourceNotFoundException, OrderStatusConflictException;
+
+    ResponseEntity<ApiResponseDto<?>> getAllOrders(OrderFilterRequestDto filter) throws ServiceLogicException, InvalidRequestException;
+
+    ResponseEntity<StreamingResponseBody> exportOrders(OrderFilterRequestDto filter, EOrderExportFormat format);
+
+    SseEmitter subscribeToOrderUpdates(String userId);
 
-    ResponseEntity<ApiResponseDto<?>> getOrdersByUser(String userId) throws ResourceNotFoundException, ServiceLogicException;
+    ResponseEntity<ApiResponseDto<?>> getOrderStats(LocalDate from, LocalDate to, int top) throws ServiceLogicException;
 
-    ResponseEntity<ApiResponseDto<?>> cancelOrder(String orderId) throws ServiceLogicException, ResourceNotFoundException;
+    ResponseEntity<ApiResponseDto<?>> rebuildOrderStats() throws ServiceLogicException;
 
-    ResponseEntity<ApiResponseDto<?>> getAllOrders() throws ServiceLogicException;
+    ResponseEntity<ApiResponseDto<?>> getOrderBaskets(String cursor, int size) throws ServiceLogicException, InvalidRequestException;
 }
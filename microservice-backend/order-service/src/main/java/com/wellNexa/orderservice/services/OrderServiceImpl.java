@@ -1,35 +1,101 @@
 package com.wellNexa.orderservice.services;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOptions;
+import org.springframework.data.mongodb.core.aggregation.ArrayOperators;
+import org.springframework.data.mongodb.core.aggregation.ConditionalOperators;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.wellNexa.orderservice.analytics.OrderStatsRecorder;
+import com.wellNexa.orderservice.batching.OrderInsertBatcher;
 import com.wellNexa.orderservice.dtos.*;
+import com.wellNexa.orderservice.enums.EIdempotencyStatus;
+import com.wellNexa.orderservice.enums.EOrderExportFormat;
 import com.wellNexa.orderservice.enums.EOrderPaymentStatus;
 import com.wellNexa.orderservice.enums.EOrderStatus;
+import com.wellNexa.orderservice.enums.EOrderTaskType;
+import com.wellNexa.orderservice.events.OrderStatusChangedEvent;
+import com.wellNexa.orderservice.events.OrderStatusStream;
+import com.wellNexa.orderservice.exceptions.InvalidRequestException;
+import com.wellNexa.orderservice.exceptions.OrderInProgressException;
+import com.wellNexa.orderservice.exceptions.OrderStatusConflictException;
 import com.wellNexa.orderservice.exceptions.ResourceNotFoundException;
 import com.wellNexa.orderservice.exceptions.ServiceLogicException;
 import com.wellNexa.orderservice.feigns.CartService;
-import com.wellNexa.orderservice.feigns.NotificationService;
 import com.wellNexa.orderservice.feigns.UserService;
+import com.wellNexa.orderservice.idempotency.OrderIdempotencyStore;
+import com.wellNexa.orderservice.modals.ArchivedOrder;
+import com.wellNexa.orderservice.modals.IdempotencyRecord;
 import com.wellNexa.orderservice.modals.Order;
-import com.wellNexa.orderservice.repositories.OrderRepository;
+import com.wellNexa.orderservice.modals.OrderTask;
+import com.wellNexa.orderservice.outbox.OrderTaskRelay;
+import com.wellNexa.orderservice.pagination.OrderCursor;
 
+import java.io.BufferedWriter;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Objects;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Component
 @Slf4j
 public class OrderServiceImpl implements OrderService {
 
+    private static final String ORDER_PLACED_MESSAGE = "Order has been successfully placed!";
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private static final int EXPORT_BATCH_SIZE = 500;
+
+    private static final int MAX_BULK_SIZE = 1000;
+
+    private static final int MAX_BASKET_PAGE_SIZE = 1000;
+
+    private static final List<String> EXPORT_COLUMNS = List.of(
+            "id", "userId", "placedOn", "orderStatus", "paymentStatus", "orderAmt", "firstName", "lastName", "city", "phoneNo");
+
+    private static final Comparator<OrderSummaryDto> SUMMARY_ORDER = Comparator
+            .comparing(OrderSummaryDto::getPlacedOn, Comparator.nullsFirst(Comparator.<LocalDateTime>naturalOrder()))
+            .thenComparing(OrderSummaryDto::getId)
+            .reversed();
+
+    private final ExecutorService fetchExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
     @Autowired
-    private OrderRepository orderRepository;
+    private MongoTemplate mongoTemplate;
 
     @Autowired
-    private NotificationService notificationService;
+    private ObjectMapper objectMapper;
 
     @Autowired
     private CartService cartService;
@@ -37,126 +103,636 @@ public class OrderServiceImpl implements OrderService {
     @Autowired
     private UserService userService;
 
+    @Autowired
+    private OrderInsertBatcher orderInsertBatcher;
 
-    public ResponseEntity<ApiResponseDto<?>> createOrder(String token, OrderRequestDto request) throws ResourceNotFoundException, ServiceLogicException {
+    @Autowired
+    private OrderTaskRelay orderTaskRelay;
 
-        try {
+    @Autowired
+    private OrderIdempotencyStore orderIdempotencyStore;
 
-            CartDto cart = cartService.getCartById(request.getCartId(), token).getBody().getResponse();
-            UserDto user = userService.getUserById(cart.getUserId()).getBody().getResponse();
+    @Autowired
+    private OrderStatsRecorder orderStatsRecorder;
 
-            if (user==null || cart == null || cart.getCartItems().isEmpty()) {
-                throw new ResourceNotFoundException("No items in the cart!");
-            }
+    @Autowired
+    private OrderStatusStream orderStatusStream;
 
-            Order order = orderRequestDtoToOrder(request, cart);
-            order = orderRepository.insert(order);
-            try {
-                if (order.getId() != null && clearCart(cart, token) && sendConfirmationEmail(user, order)) {
-                    return ResponseEntity.ok(
-                            ApiResponseDto.builder()
-                                    .isSuccess(true)
-                                    .message("Order has been successfully placed!")
-                                    .build()
-                    );
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Value("${order.checkout.fetch-timeout-ms:5000}")
+    private long fetchTimeoutMs;
+
+
+    public ResponseEntity<ApiResponseDto<?>> createOrder(String userId, String token, String idempotencyKey, OrderRequestDto request) throws ResourceNotFoundException, ServiceLogicException, OrderInProgressException {
+        boolean idempotent = idempotencyKey != null && !idempotencyKey.isBlank();
+        String claimId = null;
+        Order order;
+        try {
+            if (idempotent) {
+                IdempotencyRecord claim = orderIdempotencyStore.claim(userId, idempotencyKey);
+                if (claim.getStatus() == EIdempotencyStatus.COMPLETED) {
+                    return orderPlacedResponse(claim.getOrderId());
                 }
-                throw new ServiceLogicException("Unable to proceed order!");
-            }catch (Exception e) {
-                orderRepository.deleteById(order.getId());
-                throw new ServiceLogicException(e.getMessage());
+                claimId = claim.getClaimId();
+            }
+
+            order = prepareOrder(userId, token, request);
+            if (idempotent) {
+                orderIdempotencyStore.reserve(userId, idempotencyKey, claimId, order.getId(), ORDER_PLACED_MESSAGE);
             }
+            order = orderInsertBatcher.insert(order);
 
+        }catch (OrderInProgressException e) {
+            throw new OrderInProgressException(e.getMessage());
         }catch (ResourceNotFoundException e) {
+            releaseIdempotencyKey(idempotent, userId, idempotencyKey, claimId);
             throw new ResourceNotFoundException(e.getMessage());
         }catch (Exception e) {
+            releaseIdempotencyKey(idempotent, userId, idempotencyKey, claimId);
             log.error("Failed to create order: " + e.getMessage());
             throw new ServiceLogicException("Unable to proceed order!");
         }
+
+        // the order is in, so the key is never released from here on
+        orderTaskRelay.relaySoon();
+        orderStatsRecorder.recordPlaced(order);
+        if (idempotent) {
+            try {
+                orderIdempotencyStore.complete(userId, idempotencyKey, claimId, order.getId(), ORDER_PLACED_MESSAGE);
+            } catch (Exception e) {
+                log.error("Failed to complete idempotency key: " + e.getMessage());
+            }
+        }
+        return orderPlacedResponse(order.getId());
+    }
+
+    /**
+     * Fetches the cart and the user concurrently under one deadline. The user comes from the
+     * authenticated principal, so the cart is checked to belong to that user once both arrive.
+     * The order gets its id here so the idempotency claim can reserve it before the insert.
+     */
+    private Order prepareOrder(String userId, String token, OrderRequestDto request) throws Exception {
+        Future<CartDto> cartFuture = fetchExecutor.submit(() -> cartService.getCartById(request.getCartId(), token).getBody().getResponse());
+        Future<UserDto> userFuture = fetchExecutor.submit(() -> userService.getUserById(userId).getBody().getResponse());
+        CartDto cart;
+        UserDto user;
+        try {
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(fetchTimeoutMs);
+            cart = cartFuture.get(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+            user = userFuture.get(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+        } finally {
+            cartFuture.cancel(true);
+            userFuture.cancel(true);
+        }
+
+        if (cart != null && !userId.equals(cart.getUserId())) {
+            throw new ResourceNotFoundException("No cart found for id " + request.getCartId());
+        }
+        if (user==null || cart == null || cart.getCartItems().isEmpty()) {
+            throw new ResourceNotFoundException("No items in the cart!");
+        }
+
+        Order order = orderRequestDtoToOrder(request, cart);
+        order.setId(new ObjectId().toHexString());
+        LocalDateTime now = LocalDateTime.now();
+        order.setPendingTasks(List.of(
+                OrderTask.builder()
+                        .type(EOrderTaskType.CLEAR_CART)
+                        .cartId(cart.getCartId())
+                        .nextAttemptAt(now)
+                        .build(),
+                OrderTask.builder()
+                        .type(EOrderTaskType.SEND_CONFIRMATION_EMAIL)
+                        .email(user.getEmail())
+                        .username(user.getUsername())
+                        .nextAttemptAt(now)
+                        .build(),
+                OrderTask.builder()
+                        .type(EOrderTaskType.PUBLISH_BASKET)
+                        .nextAttemptAt(now)
+                        .build()
+        ));
+        return order;
+    }
+
+    private ResponseEntity<ApiResponseDto<?>> orderPlacedResponse(String orderId) {
+        return ResponseEntity.ok(
+                ApiResponseDto.builder()
+                        .isSuccess(true)
+                        .message(ORDER_PLACED_MESSAGE)
+                        .response(orderId)
+                        .build()
+        );
     }
 
-    public ResponseEntity<ApiResponseDto<?>> getOrdersByUser(String userId) throws ServiceLogicException {
+    private void releaseIdempotencyKey(boolean idempotent, String userId, String idempotencyKey, String claimId) {
+        if (!idempotent || claimId == null) {
+            return;
+        }
+        try {
+            orderIdempotencyStore.release(userId, idempotencyKey, claimId);
+        } catch (Exception e) {
+            log.error("Failed to release idempotency key: " + e.getMessage());
+        }
+    }
+
+    public ResponseEntity<ApiResponseDto<?>> getOrdersByUser(String userId, String cursor, int size) throws ServiceLogicException, InvalidRequestException {
+        Criteria criteria = Criteria.where("userId").is(userId);
+        if (cursor != null && !cursor.isBlank()) {
+            criteria = new Criteria().andOperator(criteria, OrderCursor.decode(cursor).after());
+        }
         try {
-            Set<Order> orders = orderRepository.findByUserIdOrderByIdDesc(userId);
+            OrderPageDto<OrderSummaryDto> page = summaryPage(criteria, size);
             return ResponseEntity.ok(
                     ApiResponseDto.builder()
                             .isSuccess(true)
-                            .message(orders.size() + " orders found!")
-                            .response(orders)
+                            .message(page.getItems().size() + " orders found!")
+                            .response(page)
                             .build()
             );
         }catch (Exception e) {
-            log.error("Failed to create order: " + e.getMessage());
+            log.error("Failed to find orders: " + e.getMessage());
             throw new ServiceLogicException("Unable to find orders!");
         }
     }
 
     @Override
-    public ResponseEntity<ApiResponseDto<?>> getAllOrders() throws ServiceLogicException {
+    public ResponseEntity<ApiResponseDto<?>> getOrderById(String userId, String orderId) throws ServiceLogicException, ResourceNotFoundException {
         try {
-            List<Order> orders = orderRepository.findAll();
+            Query query = Query.query(Criteria.where("id").is(orderId).and("userId").is(userId));
+            Order order = mongoTemplate.findOne(query, Order.class);
+            if (order == null) {
+                ArchivedOrder archived = mongoTemplate.findOne(query, ArchivedOrder.class);
+                order = archived != null ? archived.toOrder() : null;
+            }
+            if (order != null) {
+                return ResponseEntity.ok(
+                        ApiResponseDto.builder()
+                                .isSuccess(true)
+                                .response(order)
+                                .build()
+                );
+            }
+        }catch (Exception e) {
+            log.error("Failed to find order: " + e.getMessage());
+            throw new ServiceLogicException("Unable to find order!");
+        }
+        throw new ResourceNotFoundException("Order not found with id " + orderId);
+    }
+
+    @Override
+    public ResponseEntity<ApiResponseDto<?>> getAllOrders(OrderFilterRequestDto filter) throws ServiceLogicException, InvalidRequestException {
+        Criteria criteria = filterCriteria(filter);
+        if (filter.getCursor() != null && !filter.getCursor().isBlank()) {
+            criteria = new Criteria().andOperator(criteria, OrderCursor.decode(filter.getCursor()).after());
+        }
+        try {
+            OrderPageDto<OrderSummaryDto> page = summaryPage(criteria, filter.getSize());
             return ResponseEntity.ok(
                     ApiResponseDto.builder()
                             .isSuccess(true)
-                            .message(orders.size() + " orders found!")
-                            .response(orders)
+                            .message(page.getItems().size() + " orders found!")
+                            .response(page)
                             .build()
             );
         }catch (Exception e) {
-            log.error("Failed to create order: " + e.getMessage());
+            log.error("Failed to find orders: " + e.getMessage());
             throw new ServiceLogicException("Unable to find orders!");
         }
     }
 
+    /**
+     * Streams every order matching the filter straight from a Mongo cursor to the response, one
+     * row at a time, so the export runs in constant memory whatever the number of orders. Live
+     * orders are written first and archived ones follow in a second pass, each newest first; an
+     * archived order that is still live mid-archiving is only written from the live pass.
+     */
+    @Override
+    public ResponseEntity<StreamingResponseBody> exportOrders(OrderFilterRequestDto filter, EOrderExportFormat format) {
+        Query query = Query.query(filterCriteria(filter))
+                .with(Sort.by(Sort.Direction.DESC, "placedOn", "_id"));
+        query.fields().exclude("orderItems", "pendingTasks", "failedTasks");
+        query.cursorBatchSize(EXPORT_BATCH_SIZE);
+        Aggregation archived = Aggregation.newAggregation(
+                Aggregation.match(filterCriteria(filter)),
+                Aggregation.sort(Sort.by(Sort.Direction.DESC, "placedOn", "_id")),
+                Aggregation.lookup(mongoTemplate.getCollectionName(Order.class), "_id", "_id", "live"),
+                Aggregation.match(Criteria.where("live").size(0)),
+                Aggregation.project().andExclude("orderItems", "live")
+        ).withOptions(AggregationOptions.builder().allowDiskUse(true).cursorBatchSize(EXPORT_BATCH_SIZE).build());
+
+        StreamingResponseBody body = outputStream -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+            if (format == EOrderExportFormat.CSV) {
+                writer.write(String.join(",", EXPORT_COLUMNS));
+                writer.write("\n");
+            }
+            try (Stream<Order> orders = mongoTemplate.stream(query, Order.class)) {
+                for (Order order : (Iterable<Order>) orders::iterator) {
+                    writer.write(format == EOrderExportFormat.CSV ? csvRow(order) : objectMapper.writeValueAsString(order));
+                    writer.write("\n");
+                }
+            }
+            try (Stream<ArchivedOrder> orders = mongoTemplate.aggregateStream(archived, ArchivedOrder.class, ArchivedOrder.class)) {
+                for (ArchivedOrder archivedOrder : (Iterable<ArchivedOrder>) orders::iterator) {
+                    Order order = archivedOrder.toOrder();
+                    order.setOrderItems(null);
+                    writer.write(format == EOrderExportFormat.CSV ? csvRow(order) : objectMapper.writeValueAsString(order));
+                    writer.write("\n");
+                }
+            }
+            writer.flush();
+        };
+
+        String extension = format == EOrderExportFormat.CSV ? "csv" : "ndjson";
+        return ResponseEntity.ok()
+                .contentType(format == EOrderExportFormat.CSV ? new MediaType("text", "csv", StandardCharsets.UTF_8) : MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"orders." + extension + "\"")
+                .body(body);
+    }
 
     @Override
-    public ResponseEntity<ApiResponseDto<?>> cancelOrder(String orderId) throws ServiceLogicException, ResourceNotFoundException {
+    public ResponseEntity<ApiResponseDto<?>> cancelOrder(String userId, String orderId) throws ServiceLogicException, ResourceNotFoundException, OrderStatusConflictException {
         try {
-            if(orderRepository.existsById(orderId)) {
-                Order order = orderRepository.findById(orderId).orElse(null);
-                order.setOrderStatus(EOrderStatus.CANCELLED);
-                orderRepository.save(order);
-                return ResponseEntity.ok(
-                        ApiResponseDto.builder()
-                                .isSuccess(true)
-                                .message("Order successfully cancelled")
-                                .build()
-                );
+            transitionStatus(Criteria.where("id").is(orderId).and("userId").is(userId), orderId, EOrderStatus.CANCELLED);
+            return ResponseEntity.ok(
+                    ApiResponseDto.builder()
+                            .isSuccess(true)
+                            .message("Order successfully cancelled")
+                            .build()
+            );
+        }catch (ResourceNotFoundException e) {
+            throw new ResourceNotFoundException(e.getMessage());
+        }catch (OrderStatusConflictException e) {
+            throw new OrderStatusConflictException(e.getMessage());
+        }catch (Exception e) {
+            log.error("Failed to cancel order: " + e.getMessage());
+            throw new ServiceLogicException("Unable to cancel order!");
+        }
+    }
+
+    @Override
+    public ResponseEntity<ApiResponseDto<?>> updateOrderStatus(String orderId, EOrderStatus status) throws ServiceLogicException, ResourceNotFoundException, OrderStatusConflictException {
+        try {
+            Order order = transitionStatus(Criteria.where("id").is(orderId), orderId, status);
+            return ResponseEntity.ok(
+                    ApiResponseDto.builder()
+                            .isSuccess(true)
+                            .message("Order status updated to " + status)
+                            .response(order)
+                            .build()
+            );
+        }catch (ResourceNotFoundException e) {
+            throw new ResourceNotFoundException(e.getMessage());
+        }catch (OrderStatusConflictException e) {
+            throw new OrderStatusConflictException(e.getMessage());
+        }catch (Exception e) {
+            log.error("Failed to update order status: " + e.getMessage());
+            throw new ServiceLogicException("Unable to update order status!");
+        }
+    }
+
+    /**
+     * Moves many orders to one status with an {@code updateMulti} per allowed source status, so
+     * hundreds of orders take a handful of round trips. Transitions that void orders go one order
+     * at a time instead, because the sales stats need each voided order's amount and items.
+     * Owners are read up front so the orders seen moving can be announced to their subscribers.
+     */
+    @Override
+    public ResponseEntity<ApiResponseDto<?>> updateOrderStatuses(OrderStatusBulkRequestDto request) throws ServiceLogicException, InvalidRequestException {
+        if (request.getStatus() == null || request.getOrderIds() == null || request.getOrderIds().isEmpty()) {
+            throw new InvalidRequestException("A status and at least one order id are required");
+        }
+        Set<String> orderIds = new LinkedHashSet<>(request.getOrderIds());
+        if (orderIds.size() > MAX_BULK_SIZE) {
+            throw new InvalidRequestException("At most " + MAX_BULK_SIZE + " orders can be updated at once");
+        }
+        EOrderStatus status = request.getStatus();
+        try {
+            long updated = 0;
+            Map<String, Order> movable = new HashMap<>();
+            if (OrderStatsRecorder.isVoided(status)) {
+                for (String orderId : orderIds) {
+                    try {
+                        transitionStatus(Criteria.where("id").is(orderId), orderId, status);
+                        updated++;
+                    } catch (ResourceNotFoundException | OrderStatusConflictException e) {
+                        // reported as skipped below
+                    }
+                }
+            } else {
+                Query candidates = Query.query(Criteria.where("id").in(orderIds).and("orderStatus").in(EOrderStatus.sourcesOf(status)));
+                candidates.fields().include("userId", "paymentStatus");
+                mongoTemplate.find(candidates, Order.class).forEach(order -> movable.put(order.getId(), order));
+                for (EOrderStatus source : EOrderStatus.sourcesOf(status)) {
+                    long modified = mongoTemplate.updateMulti(
+                            Query.query(Criteria.where("id").in(orderIds).and("orderStatus").is(source)),
+                            new Update().set("orderStatus", status),
+                            Order.class
+                    ).getModifiedCount();
+                    orderStatsRecorder.recordStatusChanges(source, status, modified);
+                    updated += modified;
+                }
             }
+
+            Query reached = Query.query(Criteria.where("id").in(orderIds).and("orderStatus").is(status));
+            reached.fields().include("_id");
+            Set<String> skipped = new LinkedHashSet<>(orderIds);
+            LocalDateTime changedAt = LocalDateTime.now();
+            for (Order order : mongoTemplate.find(reached, Order.class)) {
+                skipped.remove(order.getId());
+                Order moved = movable.get(order.getId());
+                if (moved != null) {
+                    eventPublisher.publishEvent(new OrderStatusChangedEvent(
+                            moved.getId(), moved.getUserId(), status, moved.getPaymentStatus(), changedAt));
+                }
+            }
+
+            return ResponseEntity.ok(
+                    ApiResponseDto.builder()
+                            .isSuccess(true)
+                            .message(updated + " orders updated to " + status)
+                            .response(OrderStatusBulkResultDto.builder()
+                                    .status(status)
+                                    .updated(updated)
+                                    .skippedOrderIds(new ArrayList<>(skipped))
+                                    .build())
+                            .build()
+            );
         }catch (Exception e) {
-            log.error("Failed to create order: " + e.getMessage());
-            throw new ServiceLogicException("Unable to find orders!");
+            log.error("Failed to update order statuses: " + e.getMessage());
+            throw new ServiceLogicException("Unable to update order statuses!");
         }
-        throw new ResourceNotFoundException("Order not found with id " + orderId);
     }
 
-    private boolean clearCart(CartDto cart, String token) {
-        return Objects.requireNonNull(cartService.clearCartById(cart.getCartId(), token).getBody()).isSuccess();
+    @Override
+    public ResponseEntity<ApiResponseDto<?>> updatePaymentStatus(String orderId, EOrderPaymentStatus paymentStatus) throws ServiceLogicException, ResourceNotFoundException, OrderStatusConflictException {
+        try {
+            Criteria match = Criteria.where("id").is(orderId);
+            Order previous = mongoTemplate.findAndModify(
+                    Query.query(Criteria.where("id").is(orderId).and("paymentStatus").in(EOrderPaymentStatus.sourcesOf(paymentStatus))),
+                    new Update().set("paymentStatus", paymentStatus),
+                    Order.class
+            );
+            if (previous == null) {
+                Order current = currentOrder(match, orderId);
+                throw new OrderStatusConflictException("Order payment cannot move from " + current.getPaymentStatus() + " to " + paymentStatus);
+            }
+            eventPublisher.publishEvent(new OrderStatusChangedEvent(
+                    previous.getId(), previous.getUserId(), previous.getOrderStatus(), paymentStatus, LocalDateTime.now()));
+            return ResponseEntity.ok(
+                    ApiResponseDto.builder()
+                            .isSuccess(true)
+                            .message("Order payment status updated to " + paymentStatus)
+                            .build()
+            );
+        }catch (ResourceNotFoundException e) {
+            throw new ResourceNotFoundException(e.getMessage());
+        }catch (OrderStatusConflictException e) {
+            throw new OrderStatusConflictException(e.getMessage());
+        }catch (Exception e) {
+            log.error("Failed to update payment status: " + e.getMessage());
+            throw new ServiceLogicException("Unable to update payment status!");
+        }
     }
 
-    private boolean sendConfirmationEmail(UserDto user, Order order) {
-        StringBuilder contentBuilder = new StringBuilder("Dear " + user.getUsername() + ",<br><br>"
-                + "<h2>Thank you for your order!</h2>"
-                + "<p>Your order #" + order.getId() + " has been successfully placed!</p>"
-                + "<h3>Order summary</h3>");
-        for( CartItemDto item: order.getOrderItems()) {
-            String description = item.getProductName() + ": " + item.getQuantity() + " x " + item.getPrice() + "<br>";
-            contentBuilder.append(description);
+    /**
+     * Applies a status transition as one {@code findAndModify} that only matches while the order
+     * is in a status allowed to move to {@code next}, so concurrent updates cannot both win. The
+     * order is only read again when nothing matched, to tell a missing order from a conflict.
+     * Voiding an order queues the retraction of its basket from the related products in the same
+     * update, so product-service hears about every cancellation and return.
+     */
+    private Order transitionStatus(Criteria match, String orderId, EOrderStatus next) throws ResourceNotFoundException, OrderStatusConflictException {
+        boolean voiding = OrderStatsRecorder.isVoided(next);
+        Update update = new Update().set("orderStatus", next);
+        if (voiding) {
+            update.push("pendingTasks", OrderTask.builder()
+                    .type(EOrderTaskType.RETRACT_BASKET)
+                    .nextAttemptAt(LocalDateTime.now())
+                    .build());
+        }
+        Order previous = mongoTemplate.findAndModify(
+                Query.query(new Criteria().andOperator(match, Criteria.where("orderStatus").in(EOrderStatus.sourcesOf(next)))),
+                update,
+                Order.class
+        );
+        if (previous == null) {
+            Order current = currentOrder(match, orderId);
+            throw new OrderStatusConflictException("Order cannot move from " + current.getOrderStatus() + " to " + next);
+        }
+        if (voiding) {
+            orderTaskRelay.relaySoon();
         }
+        EOrderStatus from = previous.getOrderStatus();
+        previous.setOrderStatus(next);
+        orderStatsRecorder.recordStatusChange(previous, from, next);
+        eventPublisher.publishEvent(new OrderStatusChangedEvent(
+                previous.getId(), previous.getUserId(), next, previous.getPaymentStatus(), LocalDateTime.now()));
+        return previous;
+    }
 
-        String content = contentBuilder.toString();
+    /**
+     * Reads the order's current statuses. Archived orders are final: they were delivered or
+     * cancelled long enough ago to leave the live collection, so a change to one, such as a late
+     * return, is reported as a conflict rather than as a missing order.
+     */
+    private Order currentOrder(Criteria match, String orderId) throws ResourceNotFoundException, OrderStatusConflictException {
+        Query query = Query.query(match);
+        query.fields().include("orderStatus", "paymentStatus");
+        Order current = mongoTemplate.findOne(query, Order.class);
+        if (current == null) {
+            ArchivedOrder archived = mongoTemplate.findOne(query, ArchivedOrder.class);
+            if (archived != null) {
+                throw new OrderStatusConflictException("Order " + orderId + " is archived as " + archived.getOrderStatus() + " and can no longer change");
+            }
+            throw new ResourceNotFoundException("Order not found with id " + orderId);
+        }
+        return current;
+    }
 
-        content += "<h4>Total: " + order.getOrderAmt() + "</h4>"
-                + "<p>Delivery charges be will added to your total at your doorstep!</p>"
-                + "<br>Thank you,<br>"
-                + "Purely.";
+    @Override
+    public SseEmitter subscribeToOrderUpdates(String userId) {
+        return orderStatusStream.subscribe(userId);
+    }
 
-        MailRequestDto mail = MailRequestDto.builder()
-                .to(user.getEmail())
-                .subject("Purely - Order confirmation")
-                .body(content)
+    @Override
+    public ResponseEntity<ApiResponseDto<?>> getOrderStats(LocalDate from, LocalDate to, int top) throws ServiceLogicException {
+        try {
+            return ResponseEntity.ok(
+                    ApiResponseDto.builder()
+                            .isSuccess(true)
+                            .response(orderStatsRecorder.getStats(from, to, top))
+                            .build()
+            );
+        }catch (Exception e) {
+            log.error("Failed to read order stats: " + e.getMessage());
+            throw new ServiceLogicException("Unable to read order stats!");
+        }
+    }
+
+    @Override
+    public ResponseEntity<ApiResponseDto<?>> rebuildOrderStats() throws ServiceLogicException {
+        try {
+            int orders = orderStatsRecorder.rebuild();
+            return ResponseEntity.ok(
+                    ApiResponseDto.builder()
+                            .isSuccess(true)
+                            .message("Order stats rebuilt from " + orders + " orders")
+                            .build()
+            );
+        }catch (Exception e) {
+            log.error("Failed to rebuild order stats: " + e.getMessage());
+            throw new ServiceLogicException("Unable to rebuild order stats!");
+        }
+    }
+
+    /**
+     * Pages every order's basket, live and archived, in ascending id order for product-service to
+     * rebuild its related products from. An order being archived may be seen in both collections,
+     * in which case the live copy wins.
+     */
+    @Override
+    public ResponseEntity<ApiResponseDto<?>> getOrderBaskets(String cursor, int size) throws ServiceLogicException, InvalidRequestException {
+        Criteria criteria = new Criteria();
+        if (cursor != null && !cursor.isBlank()) {
+            if (!ObjectId.isValid(cursor)) {
+                throw new InvalidRequestException("Invalid cursor " + cursor);
+            }
+            criteria = Criteria.where("id").gt(new ObjectId(cursor));
+        }
+        int pageSize = Math.max(1, Math.min(size, MAX_BASKET_PAGE_SIZE));
+        try {
+            Query query = Query.query(criteria).with(Sort.by(Sort.Direction.ASC, "_id")).limit(pageSize);
+            query.fields().include("orderItems", "orderStatus");
+            Map<String, OrderBasketDto> baskets = new HashMap<>();
+            for (ArchivedOrder archived : mongoTemplate.find(query, ArchivedOrder.class)) {
+                Order order = archived.toOrder();
+                baskets.put(order.getId(), OrderBasketDto.of(order, OrderStatsRecorder.isVoided(order.getOrderStatus())));
+            }
+            for (Order order : mongoTemplate.find(query, Order.class)) {
+                baskets.put(order.getId(), OrderBasketDto.of(order, OrderStatsRecorder.isVoided(order.getOrderStatus())));
+            }
+
+            List<OrderBasketDto> items = baskets.values().stream()
+                    .sorted(Comparator.comparing(OrderBasketDto::getOrderId))
+                    .limit(pageSize)
+                    .collect(Collectors.toList());
+            String nextCursor = items.size() == pageSize ? items.get(pageSize - 1).getOrderId() : null;
+            return ResponseEntity.ok(
+                    ApiResponseDto.builder()
+                            .isSuccess(true)
+                            .response(OrderPageDto.<OrderBasketDto>builder()
+                                    .items(items)
+                                    .nextCursor(nextCursor)
+                                    .build())
+                            .build()
+            );
+        }catch (Exception e) {
+            log.error("Failed to read order baskets: " + e.getMessage());
+            throw new ServiceLogicException("Unable to read order baskets!");
+        }
+    }
+
+    /**
+     * Reads one page of order summaries in {@code placedOn}, {@code _id} descending order. The line
+     * items are left out and replaced by their count; one extra row is read to tell whether
+     * another page follows. The page is read from both the live and the archived orders and the
+     * two are merged, so history reads the same before and after orders are archived.
+     */
+    private OrderPageDto<OrderSummaryDto> summaryPage(Criteria criteria, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.match(criteria),
+                Aggregation.sort(Sort.by(Sort.Direction.DESC, "placedOn", "_id")),
+                Aggregation.limit(pageSize + 1),
+                Aggregation.project("userId", "firstName", "lastName", "addressLine1", "addressLine2", "city",
+                                "orderAmt", "placedOn", "orderStatus", "paymentStatus")
+                        .and(ArrayOperators.Size.lengthOfArray(ConditionalOperators.ifNull("orderItems").then(List.of())))
+                        .as("itemCount")
+        );
+        // an order being archived can briefly exist in both collections; the live copy wins
+        Map<String, OrderSummaryDto> summaries = new HashMap<>();
+        for (OrderSummaryDto summary : mongoTemplate.aggregate(aggregation, ArchivedOrder.class, OrderSummaryDto.class).getMappedResults()) {
+            summaries.put(summary.getId(), summary);
+        }
+        for (OrderSummaryDto summary : mongoTemplate.aggregate(aggregation, Order.class, OrderSummaryDto.class).getMappedResults()) {
+            summaries.put(summary.getId(), summary);
+        }
+        List<OrderSummaryDto> items = new ArrayList<>(summaries.values());
+        items.sort(SUMMARY_ORDER);
+        if (items.size() > pageSize + 1) {
+            items.subList(pageSize + 1, items.size()).clear();
+        }
+
+        String nextCursor = null;
+        if (items.size() > pageSize) {
+            items.remove(pageSize);
+            OrderSummaryDto last = items.get(pageSize - 1);
+            nextCursor = new OrderCursor(last.getPlacedOn(), last.getId()).encode();
+        }
+        return OrderPageDto.<OrderSummaryDto>builder()
+                .items(items)
+                .nextCursor(nextCursor)
                 .build();
+    }
+
+    private Criteria filterCriteria(OrderFilterRequestDto filter) {
+        Criteria criteria = new Criteria();
+        if (filter.getStatus() != null) {
+            criteria = criteria.and("orderStatus").is(filter.getStatus());
+        }
+        if (filter.getPaymentStatus() != null) {
+            criteria = criteria.and("paymentStatus").is(filter.getPaymentStatus());
+        }
+        if (filter.getCity() != null && !filter.getCity().isBlank()) {
+            criteria = criteria.and("city").is(filter.getCity());
+        }
+        if (filter.getFrom() != null || filter.getTo() != null) {
+            Criteria placedOn = criteria.and("placedOn");
+            if (filter.getFrom() != null) {
+                placedOn.gte(filter.getFrom().atStartOfDay());
+            }
+            if (filter.getTo() != null) {
+                placedOn.lt(filter.getTo().plusDays(1).atStartOfDay());
+            }
+        }
+        return criteria;
+    }
+
+    private String csvRow(Order order) {
+        return Stream.of(
+                        order.getId(),
+                        order.getUserId(),
+                        String.valueOf(order.getPlacedOn()),
+                        String.valueOf(order.getOrderStatus()),
+                        String.valueOf(order.getPaymentStatus()),
+                        String.valueOf(order.getOrderAmt()),
+                        order.getFirstName(),
+                        order.getLastName(),
+                        order.getCity(),
+                        order.getPhoneNo()
+                )
+                .map(this::csvField)
+                .collect(Collectors.joining(","));
+    }
 
-        return notificationService.sendEmail(mail).getBody().isSuccess();
+    /**
+     * Quotes a CSV field when needed and defuses values a spreadsheet would run as a formula.
+     */
+    private String csvField(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (!value.isEmpty() && "=+-@".indexOf(value.charAt(0)) >= 0 && !value.matches("-?[0-9.]+")) {
+            value = "'" + value;
+        }
+        if (value.contains(",") || value.contains("\"") || value.contains("\n") || value.contains("\r")) {
+            return "\"" + value.replace("\"", "\"\"") + "\"";
+        }
+        return value;
     }
 
     private Order orderRequestDtoToOrder(OrderRequestDto request, CartDto cart) {
@@ -0,0 +1,33 @@
+package com.wellNexa.orderservice.enums;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EOrderStatusTest {
+
+    @Test
+    void testDeliveredOrdersCannotBeCancelled() {
+        assertFalse(EOrderStatus.DELIVERED.canTransitionTo(EOrderStatus.CANCELLED));
+        assertEquals(EnumSet.of(EOrderStatus.PENDING, EOrderStatus.PROCESSING, EOrderStatus.CONFIRMED),
+                EOrderStatus.sourcesOf(EOrderStatus.CANCELLED));
+    }
+
+    @Test
+    void testTerminalStatusesHaveNoTransitions() {
+        for (EOrderStatus next : EOrderStatus.values()) {
+            assertFalse(EOrderStatus.CANCELLED.canTransitionTo(next));
+            assertFalse(EOrderStatus.RETURNED.canTransitionTo(next));
+        }
+        assertTrue(EOrderStatus.sourcesOf(EOrderStatus.PENDING).isEmpty());
+    }
+
+    @Test
+    void testOnlyUnpaidOrdersCanBePaid() {
+        assertEquals(EnumSet.of(EOrderPaymentStatus.UNPAID), EOrderPaymentStatus.sourcesOf(EOrderPaymentStatus.PAID));
+        assertTrue(EOrderPaymentStatus.sourcesOf(EOrderPaymentStatus.UNPAID).isEmpty());
+    }
+
+}
@@ -0,0 +1,28 @@
+package com.wellNexa.orderservice.pagination;
+
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+
+import com.wellNexa.orderservice.exceptions.InvalidRequestException;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrderCursorTest {
+
+    @Test
+    void testCursorRoundTrips() throws InvalidRequestException {
+        OrderCursor cursor = new OrderCursor(LocalDateTime.of(2024, 3, 1, 10, 15, 30, 123_000_000), new ObjectId().toHexString());
+
+        assertEquals(cursor, OrderCursor.decode(cursor.encode()));
+    }
+
+    @Test
+    void testMalformedCursorsAreRejected() {
+        assertThrows(InvalidRequestException.class, () -> OrderCursor.decode("not a cursor"));
+        assertThrows(InvalidRequestException.class, () -> OrderCursor.decode(
+                new OrderCursor(LocalDateTime.now(), "not-an-object-id").encode()));
+    }
+
+}
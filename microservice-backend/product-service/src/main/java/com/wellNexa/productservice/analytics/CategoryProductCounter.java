@@ -0,0 +1,143 @@
+package com.wellNexa.productservice.analytics;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import com.wellNexa.productservice.dtos.CategoryProductCountDto;
+import com.wellNexa.productservice.events.CategoriesReloadedEvent;
+import com.wellNexa.productservice.events.CategoryDeletedEvent;
+import com.wellNexa.productservice.models.Product;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Keeps the number of products per category in the {@code category_counts} collection, so that
+ * category tiles can show counts without loading every product. Single writes adjust the counts
+ * with {@code $inc}; writes that may move many products between categories recount only the
+ * categories they touched. The count of a category is removed when the category is deleted.
+ */
+@Slf4j
+@Component
+public class CategoryProductCounter {
+
+    private static final String COLLECTION = "category_counts";
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        try {
+            if (mongoTemplate.estimatedCount(COLLECTION) == 0 && mongoTemplate.estimatedCount(Product.class) > 0) {
+                Map<String, Long> counts = countCategories(new Criteria());
+                writeCounts(counts.keySet(), counts);
+                log.info("Category product counts backfilled");
+            }
+        } catch (Exception e) {
+            log.error("Unable to backfill category product counts: " + e.getMessage());
+        }
+    }
+
+    public void increment(String categoryId, long delta) {
+        if (categoryId != null && delta != 0) {
+            applyDeltas(Map.of(categoryId, delta));
+        }
+    }
+
+    public void moved(String fromCategoryId, String toCategoryId) {
+        if (Objects.equals(fromCategoryId, toCategoryId)) {
+            return;
+        }
+        Map<String, Long> deltas = new HashMap<>();
+        if (fromCategoryId != null) {
+            deltas.put(fromCategoryId, -1L);
+        }
+        if (toCategoryId != null) {
+            deltas.put(toCategoryId, 1L);
+        }
+        applyDeltas(deltas);
+    }
+
+    public void applyDeltas(Map<String, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        BulkOperations bulkOperations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, COLLECTION);
+        deltas.forEach((categoryId, delta) -> bulkOperations.upsert(
+                Query.query(Criteria.where("_id").is(categoryId)),
+                new Update().inc("count", delta)
+        ));
+        bulkOperations.execute();
+    }
+
+    /**
+     * Replaces the counts of the given categories with an exact count from the product collection.
+     */
+    public void recount(Collection<String> categoryIds) {
+        if (categoryIds.isEmpty()) {
+            return;
+        }
+        writeCounts(categoryIds, countCategories(Criteria.where("categoryId").in(categoryIds)));
+    }
+
+    @EventListener
+    public void onCategoryDeleted(CategoryDeletedEvent event) {
+        mongoTemplate.remove(Query.query(Criteria.where("_id").is(event.getCategoryId())), COLLECTION);
+    }
+
+    /**
+     * Drops the counts of categories deleted while no category events were followed.
+     */
+    @EventListener
+    public void onCategoriesReloaded(CategoriesReloadedEvent event) {
+        mongoTemplate.remove(Query.query(Criteria.where("_id").nin(event.getCategoryNames().keySet())), COLLECTION);
+    }
+
+    public List<CategoryProductCountDto> getCounts(List<String> categoryIds) {
+        Query query = categoryIds == null || categoryIds.isEmpty()
+                ? new Query()
+                : Query.query(Criteria.where("_id").in(categoryIds));
+        return mongoTemplate.find(query, CategoryProductCountDto.class, COLLECTION);
+    }
+
+    private void writeCounts(Collection<String> categoryIds, Map<String, Long> counts) {
+        if (categoryIds.isEmpty()) {
+            return;
+        }
+        BulkOperations bulkOperations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, COLLECTION);
+        categoryIds.forEach(categoryId -> bulkOperations.upsert(
+                Query.query(Criteria.where("_id").is(categoryId)),
+                new Update().set("count", counts.getOrDefault(categoryId, 0L))
+        ));
+        bulkOperations.execute();
+    }
+
+    private Map<String, Long> countCategories(Criteria criteria) {
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.match(criteria),
+                Aggregation.group("categoryId").count().as("count")
+        );
+        Map<String, Long> counts = new HashMap<>();
+        mongoTemplate.aggregate(aggregation, Product.class, CategoryProductCountDto.class)
+                .forEach(count -> {
+                    if (count.getCategoryId() != null) {
+                        counts.put(count.getCategoryId(), count.getCount());
+                    }
+                });
+        return counts;
+    }
+
+}
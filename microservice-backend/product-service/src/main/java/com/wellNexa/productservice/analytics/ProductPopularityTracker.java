@@ -0,0 +1,170 @@
+package com.wellNexa.productservice.analytics;
+
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.wellNexa.productservice.models.Product;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Absorbs product view and add-to-cart events in striped in-memory counters and flushes the
+ * aggregated deltas to the product documents in one unordered bulk write every few seconds.
+ * The counters only ever grow; each flush writes the difference to the last flushed total,
+ * so a failed flush is simply retried by the next one. A counter with nothing left to flush is
+ * retired and dropped, so only products touched since the last flush stay in memory.
+ */
+@Slf4j
+@Component
+public class ProductPopularityTracker {
+
+    private static final String META_COLLECTION = "product_popularity_meta";
+    private static final String DECAY_LOCK_ID = "trending-decay";
+
+    private static final class Counters {
+        final LongAdder views = new LongAdder();
+        final LongAdder carts = new LongAdder();
+        long flushedViews;
+        long flushedCarts;
+        volatile boolean retired;
+
+        boolean isFlushed() {
+            return views.sum() == flushedViews && carts.sum() == flushedCarts;
+        }
+    }
+
+    private record Delta(String productId, Counters counters, long views, long carts) {
+    }
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Value("${catalog.popularity.view-weight:1}")
+    private double viewWeight;
+
+    @Value("${catalog.popularity.cart-weight:5}")
+    private double cartWeight;
+
+    @Value("${catalog.popularity.decay-factor:0.5}")
+    private double decayFactor;
+
+    @Value("${catalog.popularity.decay-interval-ms:3600000}")
+    private long decayIntervalMs;
+
+    private final Map<String, Counters> counters = new ConcurrentHashMap<>();
+
+    public void recordView(String productId) {
+        record(productId, true);
+    }
+
+    public void recordAddToCart(String productId) {
+        if (!ObjectId.isValid(productId)) {
+            return;
+        }
+        record(productId, false);
+    }
+
+    /**
+     * Increments without locking. An increment that lands on a counter being retired is taken
+     * back and applied to a fresh counter, so eviction never loses an event.
+     */
+    private void record(String productId, boolean view) {
+        while (true) {
+            Counters counter = counters.computeIfAbsent(productId, id -> new Counters());
+            LongAdder adder = view ? counter.views : counter.carts;
+            adder.increment();
+            if (!counter.retired) {
+                return;
+            }
+            adder.decrement();
+            counters.remove(productId, counter);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${catalog.popularity.flush-interval-ms:5000}")
+    public synchronized void flush() {
+        List<Delta> deltas = new ArrayList<>();
+        counters.forEach((productId, counter) -> {
+            long views = counter.views.sum() - counter.flushedViews;
+            long carts = counter.carts.sum() - counter.flushedCarts;
+            if (views > 0 || carts > 0) {
+                deltas.add(new Delta(productId, counter, views, carts));
+            }
+        });
+        evictFlushed();
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        BulkOperations bulkOperations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Product.class);
+        for (Delta delta : deltas) {
+            bulkOperations.updateOne(
+                    Query.query(Criteria.where("id").is(delta.productId())),
+                    new Update()
+                            .inc("viewCount", delta.views())
+                            .inc("cartCount", delta.carts())
+                            .inc("trendingScore", delta.views() * viewWeight + delta.carts() * cartWeight)
+            );
+        }
+        try {
+            bulkOperations.execute();
+            for (Delta delta : deltas) {
+                delta.counters().flushedViews += delta.views();
+                delta.counters().flushedCarts += delta.carts();
+            }
+        } catch (Exception e) {
+            log.warn("Unable to flush popularity counters for " + deltas.size() + " products: " + e.getMessage());
+        }
+    }
+
+    private void evictFlushed() {
+        counters.forEach((productId, counter) -> {
+            if (!counter.isFlushed()) {
+                return;
+            }
+            counter.retired = true;
+            if (counter.isFlushed()) {
+                counters.remove(productId, counter);
+            } else {
+                counter.retired = false;
+            }
+        });
+    }
+
+    /**
+     * Halves (by default) every trending score once per decay interval. The last decay time is
+     * claimed with a conditional update so only one instance decays per interval.
+     */
+    @Scheduled(fixedDelayString = "${catalog.popularity.decay-check-interval-ms:60000}")
+    public void decayTrendingScores() {
+        long now = System.currentTimeMillis();
+        try {
+            Query due = Query.query(Criteria.where("_id").is(DECAY_LOCK_ID).and("lastDecayAt").lte(now - decayIntervalMs));
+            Document claimed = mongoTemplate.findAndModify(due, Update.update("lastDecayAt", now), Document.class, META_COLLECTION);
+            if (claimed == null) {
+                mongoTemplate.upsert(Query.query(Criteria.where("_id").is(DECAY_LOCK_ID)),
+                        new Update().setOnInsert("lastDecayAt", now), META_COLLECTION);
+                return;
+            }
+            mongoTemplate.updateMulti(Query.query(Criteria.where("trendingScore").gt(0)),
+                    new Update().multiply("trendingScore", decayFactor), Product.class);
+        } catch (Exception e) {
+            log.warn("Unable to decay trending scores: " + e.getMessage());
+        }
+    }
+
+}
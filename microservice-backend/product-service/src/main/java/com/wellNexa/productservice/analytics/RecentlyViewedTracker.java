@@ -0,0 +1,190 @@
+package com.wellNexa.productservice.analytics;
+
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Keeps a fixed-size ring buffer of recently viewed product ids per user. Rings live in an
+ * LRU map bounded by the number of active users and are written behind to one compact document
+ * per user, both periodically and when an inactive user is evicted.
+ */
+@Slf4j
+@Component
+public class RecentlyViewedTracker {
+
+    private static final String COLLECTION = "recently_viewed";
+
+    static final class RecentRing {
+        private final String[] slots;
+        private int next;
+        private int count;
+        private boolean dirty;
+        private boolean loaded;
+
+        RecentRing(int capacity) {
+            slots = new String[capacity];
+        }
+
+        synchronized void add(String productId) {
+            if (count > 0 && productId.equals(slots[(next - 1 + slots.length) % slots.length])) {
+                return;
+            }
+            slots[next] = productId;
+            next = (next + 1) % slots.length;
+            count = Math.min(count + 1, slots.length);
+            dirty = true;
+        }
+
+        synchronized List<String> newestFirst() {
+            Set<String> distinct = new LinkedHashSet<>();
+            for (int i = 1; i <= count; i++) {
+                distinct.add(slots[(next - i + slots.length) % slots.length]);
+            }
+            return new ArrayList<>(distinct);
+        }
+
+        synchronized void merge(List<String> olderProductIds) {
+            List<String> newer = newestFirst();
+            Set<String> merged = new LinkedHashSet<>(newer);
+            merged.addAll(olderProductIds);
+            List<String> ordered = new ArrayList<>(merged);
+            next = 0;
+            count = 0;
+            for (int i = Math.min(ordered.size(), slots.length) - 1; i >= 0; i--) {
+                slots[next] = ordered.get(i);
+                next = (next + 1) % slots.length;
+                count++;
+            }
+            loaded = true;
+        }
+
+        synchronized boolean isLoaded() {
+            return loaded;
+        }
+
+        synchronized boolean isDirty() {
+            return dirty;
+        }
+
+        synchronized List<String> takeDirty() {
+            if (!dirty) {
+                return null;
+            }
+            dirty = false;
+            return newestFirst();
+        }
+
+        synchronized void markDirty() {
+            dirty = true;
+        }
+    }
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Value("${catalog.recently-viewed.capacity:20}")
+    private int capacity;
+
+    @Value("${catalog.recently-viewed.max-users:100000}")
+    private int maxUsers;
+
+    private final Queue<Map.Entry<String, RecentRing>> evicted = new ConcurrentLinkedQueue<>();
+
+    private final Map<String, RecentRing> rings = new LinkedHashMap<>(1024, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, RecentRing> eldest) {
+            if (size() <= maxUsers) {
+                return false;
+            }
+            evicted.add(Map.entry(eldest.getKey(), eldest.getValue()));
+            return true;
+        }
+    };
+
+    public void recordView(String userId, String productId) {
+        ring(userId).add(productId);
+    }
+
+    public List<String> getRecentlyViewed(String userId) {
+        RecentRing ring = ring(userId);
+        if (!ring.isLoaded()) {
+            ring.merge(loadStored(userId));
+        }
+        return ring.newestFirst();
+    }
+
+    @Scheduled(fixedDelayString = "${catalog.recently-viewed.flush-interval-ms:30000}")
+    public synchronized void flush() {
+        List<Map.Entry<String, RecentRing>> candidates = new ArrayList<>();
+        synchronized (rings) {
+            candidates.addAll(rings.entrySet().stream().map(entry -> Map.entry(entry.getKey(), entry.getValue())).toList());
+        }
+        for (Map.Entry<String, RecentRing> entry; (entry = evicted.poll()) != null; ) {
+            candidates.add(entry);
+        }
+
+        BulkOperations bulkOperations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, COLLECTION);
+        List<RecentRing> written = new ArrayList<>();
+        for (Map.Entry<String, RecentRing> entry : candidates) {
+            RecentRing ring = entry.getValue();
+            if (ring.isDirty() && !ring.isLoaded()) {
+                ring.merge(loadStored(entry.getKey()));
+            }
+            List<String> productIds = ring.takeDirty();
+            if (productIds != null) {
+                bulkOperations.upsert(Query.query(Criteria.where("_id").is(entry.getKey())),
+                        new Update().set("productIds", productIds).set("updatedAt", new Date()));
+                written.add(ring);
+            }
+        }
+        if (written.isEmpty()) {
+            return;
+        }
+        try {
+            bulkOperations.execute();
+        } catch (Exception e) {
+            log.warn("Unable to write recently viewed products for " + written.size() + " users: " + e.getMessage());
+            written.forEach(RecentRing::markDirty);
+        }
+    }
+
+    private RecentRing ring(String userId) {
+        synchronized (rings) {
+            RecentRing ring = rings.get(userId);
+            if (ring == null) {
+                ring = evicted.stream()
+                        .filter(entry -> entry.getKey().equals(userId))
+                        .map(Map.Entry::getValue)
+                        .findFirst()
+                        .orElseGet(() -> new RecentRing(capacity));
+                rings.put(userId, ring);
+            }
+            return ring;
+        }
+    }
+
+    private List<String> loadStored(String userId) {
+        Document stored = mongoTemplate.findById(userId, Document.class, COLLECTION);
+        return stored == null ? List.of() : stored.getList("productIds", String.class, List.of());
+    }
+
+}
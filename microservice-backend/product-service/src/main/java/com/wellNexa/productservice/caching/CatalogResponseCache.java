@@ -0,0 +1,179 @@
+package com.wellNexa.productservice.caching;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import com.wellNexa.productservice.dtos.ApiResponseDto;
+import com.wellNexa.productservice.dtos.ResponseCacheStatsDto;
+import com.wellNexa.productservice.events.CatalogChangedEvent;
+import com.wellNexa.productservice.events.CategoryDeletedEvent;
+import com.wellNexa.productservice.exceptions.ResourceNotFoundException;
+import com.wellNexa.productservice.exceptions.ServiceLogicException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Caches fully serialized (and optionally gzipped) catalog responses per normalized query.
+ * Entries are tagged with the catalog version they were built from and are dropped as soon as
+ * the catalog changes, so a hit never serves data older than the last admin write.
+ * Entries are kept in access order and the least recently used ones are evicted once the entry
+ * or byte limit is reached, so a burst of one-off search keys cannot lock out popular listings.
+ */
+@Component
+public class CatalogResponseCache {
+
+    @FunctionalInterface
+    public interface ResponseLoader {
+        ResponseEntity<ApiResponseDto<?>> load() throws ServiceLogicException, ResourceNotFoundException;
+    }
+
+    private record CachedResponse(long version, byte[] json, byte[] gzipped) {
+        long size() {
+            return json.length + (gzipped == null ? 0 : gzipped.length);
+        }
+    }
+
+    @Autowired
+    private CatalogVersionTracker catalogVersionTracker;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${catalog.response-cache.max-bytes:33554432}")
+    private long maxBytes;
+
+    @Value("${catalog.response-cache.max-entries:512}")
+    private int maxEntries;
+
+    @Value("${catalog.response-cache.min-gzip-bytes:1024}")
+    private int minGzipBytes;
+
+    private final LinkedHashMap<String, CachedResponse> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long usedBytes;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public void write(String key, HttpServletRequest request, HttpServletResponse response, ResponseLoader loader)
+            throws ServiceLogicException, ResourceNotFoundException, IOException {
+        long version = catalogVersionTracker.getVersion();
+        CachedResponse cached;
+        synchronized (entries) {
+            cached = entries.get(key);
+        }
+
+        if (cached != null && cached.version() == version) {
+            hits.increment();
+        } else {
+            misses.increment();
+            ResponseEntity<ApiResponseDto<?>> entity = loader.load();
+            byte[] json = objectMapper.writeValueAsBytes(entity.getBody());
+            cached = new CachedResponse(version, json, json.length >= minGzipBytes ? gzip(json) : null);
+            store(key, cached);
+        }
+
+        boolean useGzip = cached.gzipped() != null && acceptsGzip(request);
+        byte[] body = useGzip ? cached.gzipped() : cached.json();
+
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (useGzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    @EventListener
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        synchronized (entries) {
+            entries.clear();
+            usedBytes = 0;
+        }
+    }
+
+    /**
+     * Drops the listing of a deleted category, so the next request reports it as not found.
+     */
+    @EventListener
+    public void onCategoryDeleted(CategoryDeletedEvent event) {
+        synchronized (entries) {
+            CachedResponse removed = entries.remove(categoryKey(event.getCategoryId()));
+            if (removed != null) {
+                usedBytes -= removed.size();
+            }
+        }
+    }
+
+    public static String categoryKey(String categoryId) {
+        return "category:" + categoryId;
+    }
+
+    public ResponseCacheStatsDto getStats() {
+        long hitCount = hits.sum();
+        long missCount = misses.sum();
+        long total = hitCount + missCount;
+        int entryCount;
+        long bytes;
+        synchronized (entries) {
+            entryCount = entries.size();
+            bytes = usedBytes;
+        }
+        return ResponseCacheStatsDto.builder()
+                .entries(entryCount)
+                .usedBytes(bytes)
+                .maxBytes(maxBytes)
+                .hits(hitCount)
+                .misses(missCount)
+                .hitRate(total == 0 ? 0 : (double) hitCount / total)
+                .catalogVersion(catalogVersionTracker.getVersion())
+                .build();
+    }
+
+    private void store(String key, CachedResponse response) {
+        if (response.size() > maxBytes) {
+            return;
+        }
+        synchronized (entries) {
+            CachedResponse previous = entries.put(key, response);
+            usedBytes += response.size() - (previous == null ? 0 : previous.size());
+
+            Iterator<Map.Entry<String, CachedResponse>> eldest = entries.entrySet().iterator();
+            while ((entries.size() > maxEntries || usedBytes > maxBytes) && eldest.hasNext()) {
+                Map.Entry<String, CachedResponse> entry = eldest.next();
+                if (!entry.getKey().equals(key)) {
+                    usedBytes -= entry.getValue().size();
+                    eldest.remove();
+                }
+            }
+        }
+    }
+
+    private boolean acceptsGzip(HttpServletRequest request) {
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        return acceptEncoding != null && acceptEncoding.toLowerCase().contains("gzip");
+    }
+
+    private byte[] gzip(byte[] json) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(json.length / 4);
+        try (GZIPOutputStream gzipOut = new GZIPOutputStream(out)) {
+            gzipOut.write(json);
+        }
+        return out.toByteArray();
+    }
+
+}
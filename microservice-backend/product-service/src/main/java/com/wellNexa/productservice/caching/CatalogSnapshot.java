@@ -0,0 +1,240 @@
+package com.wellNexa.productservice.caching;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.wellNexa.productservice.events.CatalogChangedEvent;
+import com.wellNexa.productservice.models.Product;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Compact binary snapshot of the catalog on local disk. On start-up the last snapshot is
+ * memory-mapped and product lookups by id and by category are decoded straight from the
+ * mapped records until the first snapshot is written from Mongo, or until the catalog changes.
+ * The file records the catalog version it was written at and is only served while that is
+ * still the current version, so responses and ETags built from it match those built from Mongo.
+ *
+ * <p>File layout: an int magic number, a long write timestamp and the long catalog version,
+ * followed by records of
+ * {@code int length, id, productName, double price, description, imageUrl, categoryId,
+ * categoryName, long version, long viewCount, long cartCount, double trendingScore} where
+ * every string is an int byte length (-1 for null) followed by its UTF-8 bytes.
+ */
+@Slf4j
+@Component
+public class CatalogSnapshot {
+
+    private static final int MAGIC = 0x50435333;
+    private static final int HEADER_BYTES = Integer.BYTES + Long.BYTES + Long.BYTES;
+
+    private record MappedCatalog(long version, MappedByteBuffer buffer, Map<String, Integer> offsetsById, Map<String, List<Integer>> offsetsByCategory) {
+    }
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private CatalogVersionTracker catalogVersionTracker;
+
+    @Value("${catalog.snapshot.enabled:true}")
+    private boolean enabled;
+
+    @Value("${catalog.snapshot.path:${java.io.tmpdir}/purely-product-catalog.snapshot}")
+    private Path path;
+
+    private volatile MappedCatalog mapped;
+
+    private volatile long writtenVersion = -1;
+
+    @PostConstruct
+    public void map() {
+        if (!enabled || !Files.isRegularFile(path)) {
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.limit() < HEADER_BYTES || buffer.getInt(0) != MAGIC) {
+                log.warn("Ignoring catalog snapshot with unknown format at " + path);
+                return;
+            }
+            Map<String, Integer> offsetsById = new HashMap<>();
+            Map<String, List<Integer>> offsetsByCategory = new HashMap<>();
+            int offset = HEADER_BYTES;
+            while (offset < buffer.limit()) {
+                Product product = read(buffer, offset);
+                offsetsById.put(product.getId(), offset);
+                offsetsByCategory.computeIfAbsent(product.getCategoryId(), id -> new ArrayList<>()).add(offset);
+                offset += Integer.BYTES + buffer.getInt(offset);
+            }
+            mapped = new MappedCatalog(buffer.getLong(Integer.BYTES + Long.BYTES), buffer, offsetsById, offsetsByCategory);
+            log.info("Serving " + offsetsById.size() + " products from catalog snapshot " + path);
+        } catch (Exception e) {
+            log.warn("Unable to map catalog snapshot: " + e.getMessage());
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (enabled) {
+            Thread.ofVirtual().name("catalog-snapshot-warm-up").start(this::refresh);
+        }
+    }
+
+    @EventListener
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        mapped = null;
+    }
+
+    public boolean isServing() {
+        return serving() != null;
+    }
+
+    public Product getProduct(String productId) {
+        MappedCatalog catalog = serving();
+        Integer offset = catalog == null ? null : catalog.offsetsById().get(productId);
+        return offset == null ? null : read(catalog.buffer(), offset);
+    }
+
+    public List<Product> getProductsByCategory(String categoryId) {
+        MappedCatalog catalog = serving();
+        if (catalog == null) {
+            return null;
+        }
+        return catalog.offsetsByCategory().getOrDefault(categoryId, List.of()).stream()
+                .map(offset -> read(catalog.buffer(), offset))
+                .toList();
+    }
+
+    /**
+     * Writes a fresh snapshot when the catalog moved since the last one. A snapshot that saw the
+     * version change while it was being written is discarded and retried on the next run.
+     */
+    @Scheduled(initialDelayString = "${catalog.snapshot.interval-ms:300000}",
+            fixedDelayString = "${catalog.snapshot.interval-ms:300000}")
+    public synchronized void refresh() {
+        if (!enabled) {
+            return;
+        }
+        long version = catalogVersionTracker.getVersion();
+        if (version < 0 || version == writtenVersion) {
+            return;
+        }
+        try {
+            write(version);
+            mapped = null;
+            writtenVersion = version;
+        } catch (Exception e) {
+            log.warn("Unable to write catalog snapshot: " + e.getMessage());
+        }
+    }
+
+    private MappedCatalog serving() {
+        MappedCatalog catalog = mapped;
+        return catalog != null && catalog.version() == catalogVersionTracker.getVersion() ? catalog : null;
+    }
+
+    private void write(long version) throws IOException {
+        Path directory = Files.createDirectories(path.toAbsolutePath().getParent());
+        Path tempFile = Files.createTempFile(directory, "catalog", ".tmp");
+        int count = 0;
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempFile)));
+             Stream<Product> products = mongoTemplate.stream(new Query(), Product.class)) {
+            out.writeInt(MAGIC);
+            out.writeLong(System.currentTimeMillis());
+            out.writeLong(version);
+
+            ByteArrayOutputStream record = new ByteArrayOutputStream(512);
+            DataOutputStream recordOut = new DataOutputStream(record);
+            for (Product product : (Iterable<Product>) products::iterator) {
+                record.reset();
+                writeString(recordOut, product.getId());
+                writeString(recordOut, product.getProductName());
+                recordOut.writeDouble(product.getPrice());
+                writeString(recordOut, product.getDescription());
+                writeString(recordOut, product.getImageUrl());
+                writeString(recordOut, product.getCategoryId());
+                writeString(recordOut, product.getCategoryName());
+                recordOut.writeLong(product.getVersion());
+                recordOut.writeLong(product.getViewCount());
+                recordOut.writeLong(product.getCartCount());
+                recordOut.writeDouble(product.getTrendingScore());
+                out.writeInt(record.size());
+                record.writeTo(out);
+                count++;
+            }
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(tempFile);
+            throw e;
+        }
+        catalogVersionTracker.checkHead();
+        if (catalogVersionTracker.getVersion() != version) {
+            Files.deleteIfExists(tempFile);
+            throw new IOException("Catalog changed while the snapshot was written");
+        }
+        Files.move(tempFile, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        log.info("Wrote catalog snapshot with " + count + " products to " + path);
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static Product read(MappedByteBuffer buffer, int recordOffset) {
+        ByteBuffer record = buffer.slice(recordOffset + Integer.BYTES, buffer.getInt(recordOffset));
+        return Product.builder()
+                .id(readString(record))
+                .productName(readString(record))
+                .price(record.getDouble())
+                .description(readString(record))
+                .imageUrl(readString(record))
+                .categoryId(readString(record))
+                .categoryName(readString(record))
+                .version(record.getLong())
+                .viewCount(record.getLong())
+                .cartCount(record.getLong())
+                .trendingScore(record.getDouble())
+                .build();
+    }
+
+    private static String readString(ByteBuffer record) {
+        int length = record.getInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        record.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+}
@@ -0,0 +1,71 @@
+package com.wellNexa.productservice.caching;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.wellNexa.productservice.events.CatalogChangedEvent;
+import com.wellNexa.productservice.events.ProductEventOutbox;
+
+/**
+ * Tracks the catalog version, which is the head of the product event stream. Every product
+ * write is numbered there, so all instances agree on the version of the same data and issue the
+ * same ETags. Writes on this instance move the version as soon as the outbox has numbered them;
+ * writes on other instances are picked up by a short periodic check of the stream head.
+ */
+@Slf4j
+@Component
+public class CatalogVersionTracker {
+
+    @Autowired
+    private ProductEventOutbox productEventOutbox;
+
+    private volatile long version = -1;
+
+    private volatile long lastModified = System.currentTimeMillis();
+
+    @PostConstruct
+    public void init() {
+        checkHead();
+    }
+
+    /**
+     * Runs after the event outbox has recorded the write.
+     */
+    @Order(2)
+    @EventListener
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        checkHead();
+    }
+
+    @Scheduled(initialDelayString = "${catalog.version.check-interval-ms:2000}",
+            fixedDelayString = "${catalog.version.check-interval-ms:2000}")
+    public synchronized void checkHead() {
+        try {
+            long head = productEventOutbox.getHeadSequence();
+            if (head != version) {
+                version = head;
+                lastModified = System.currentTimeMillis();
+            }
+        } catch (Exception e) {
+            log.warn("Unable to check catalog version: " + e.getMessage());
+        }
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public long getLastModified() {
+        return lastModified;
+    }
+
+    public String eTag(String scope) {
+        return "\"" + getVersion() + "-" + scope.replaceAll("[^A-Za-z0-9_-]", "") + "\"";
+    }
+
+}
@@ -0,0 +1,196 @@
+package com.wellNexa.productservice.caching;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.wellNexa.productservice.dtos.CategoryDto;
+import com.wellNexa.productservice.dtos.CategoryEventDto;
+import com.wellNexa.productservice.dtos.EventPageDto;
+import com.wellNexa.productservice.enums.ECategoryEventType;
+import com.wellNexa.productservice.events.CategoriesReloadedEvent;
+import com.wellNexa.productservice.events.CategoryDeletedEvent;
+import com.wellNexa.productservice.events.CategoryRenamedEvent;
+import com.wellNexa.productservice.feigns.CategoryService;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Replicated copy of all categories so that category checks are local hash lookups.
+ * The map is loaded on start-up and then kept current by long-polling the category-service
+ * event stream, applying each create, rename and delete as it happens. A full reload is done
+ * when the stream reports that the events since the last applied sequence are gone, and
+ * periodically to reconcile any event that category-service failed to record.
+ * Category updates are republished locally so the denormalized names on products follow, and
+ * deletes so that responses and counts for the category are dropped.
+ */
+@Slf4j
+@Component
+public class CategoryCache {
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Value("${catalog.category-cache.wait-ms:20000}")
+    private long waitMs;
+
+    @Value("${catalog.category-cache.retry-ms:5000}")
+    private long retryMs;
+
+    private volatile Map<String, CategoryDto> categories = new ConcurrentHashMap<>();
+
+    private volatile Long lastSequence;
+
+    private volatile boolean running = true;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        Thread.ofVirtual().name("category-cache-follower").start(this::follow);
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+    }
+
+    public boolean isLoaded() {
+        return lastSequence != null;
+    }
+
+    /**
+     * Looks a category up locally. Category-service is only consulted while the cache has
+     * never been loaded, so read paths keep working when category-service is unavailable.
+     */
+    public CategoryDto getCategory(String categoryId) {
+        if (categoryId == null) {
+            return null;
+        }
+        CategoryDto category = categories.get(categoryId);
+        if (category == null && !isLoaded()) {
+            category = fetchRemote(categoryId);
+        }
+        return category;
+    }
+
+    /**
+     * Looks a category up locally and falls back to category-service on a miss, so that
+     * categories created since the last event was applied are accepted on write paths.
+     */
+    public CategoryDto resolveCategory(String categoryId) {
+        if (categoryId == null) {
+            return null;
+        }
+        CategoryDto category = categories.get(categoryId);
+        return category != null ? category : fetchRemote(categoryId);
+    }
+
+    private void follow() {
+        while (running) {
+            try {
+                sync();
+            } catch (Exception e) {
+                log.warn("Unable to follow category events: " + e.getMessage());
+                try {
+                    Thread.sleep(retryMs);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    @Scheduled(initialDelayString = "${catalog.category-cache.reconcile-interval-ms:300000}",
+            fixedDelayString = "${catalog.category-cache.reconcile-interval-ms:300000}")
+    public void reconcile() {
+        if (!isLoaded()) {
+            return;
+        }
+        try {
+            reload();
+        } catch (Exception e) {
+            log.warn("Unable to reconcile category cache: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Long-polls outside the lock and applies the page under it, dropping the page when a
+     * reconciling reload moved the sequence in the meantime.
+     */
+    private void sync() {
+        Long after = lastSequence;
+        if (after == null) {
+            reload();
+            return;
+        }
+        EventPageDto<CategoryEventDto> page = Objects.requireNonNull(categoryService.getCategoryEvents(after, waitMs).getBody()).getResponse();
+        synchronized (this) {
+            if (!after.equals(lastSequence)) {
+                return;
+            }
+            if (page.isReset()) {
+                reload();
+                return;
+            }
+            page.getEvents().forEach(this::apply);
+            lastSequence = page.getLastSequence();
+        }
+    }
+
+    private void apply(CategoryEventDto event) {
+        if (event.getType() == ECategoryEventType.CATEGORY_DELETED) {
+            categories.remove(event.getCategoryId());
+            eventPublisher.publishEvent(new CategoryDeletedEvent(event.getCategoryId()));
+        } else {
+            CategoryDto previous = categories.put(event.getCategoryId(), new CategoryDto(event.getCategoryId(), event.getCategoryName()));
+            if (event.getType() == ECategoryEventType.CATEGORY_UPDATED
+                    && (previous == null || !Objects.equals(previous.getCategoryName(), event.getCategoryName()))) {
+                eventPublisher.publishEvent(new CategoryRenamedEvent(event.getCategoryId(), event.getCategoryName()));
+            }
+        }
+    }
+
+    private CategoryDto fetchRemote(String categoryId) {
+        CategoryDto category = Objects.requireNonNull(categoryService.getCategoryById(categoryId).getBody()).getResponse();
+        if (category != null) {
+            categories.put(category.getId(), category);
+        }
+        return category;
+    }
+
+    /**
+     * Takes the stream head before listing the categories so that a write landing in between is
+     * replayed from the stream rather than lost. Products are then reconciled against the loaded
+     * names, since renames made while no events were followed are not in the stream any more.
+     */
+    private synchronized void reload() {
+        long head = Objects.requireNonNull(categoryService.getCategoryEvents(-1, 0).getBody()).getResponse().getLastSequence();
+        List<CategoryDto> all = Objects.requireNonNull(categoryService.getAllCategories().getBody()).getResponse();
+        Map<String, CategoryDto> reloaded = new ConcurrentHashMap<>();
+        all.forEach(category -> reloaded.put(category.getId(), category));
+        Map<String, CategoryDto> previous = categories;
+        categories = reloaded;
+        previous.keySet().stream()
+                .filter(categoryId -> !reloaded.containsKey(categoryId))
+                .forEach(categoryId -> eventPublisher.publishEvent(new CategoryDeletedEvent(categoryId)));
+        Map<String, String> categoryNames = new HashMap<>();
+        reloaded.values().forEach(category -> categoryNames.put(category.getId(), category.getCategoryName()));
+        eventPublisher.publishEvent(new CategoriesReloadedEvent(categoryNames));
+        lastSequence = head;
+        log.info("Category cache loaded " + reloaded.size() + " categories at event " + head);
+    }
+
+}
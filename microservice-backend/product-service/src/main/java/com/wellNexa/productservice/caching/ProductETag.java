@@ -0,0 +1,28 @@
+package com.wellNexa.productservice.caching;
+
+import com.wellNexa.productservice.exceptions.ProductVersionConflictException;
+
+/**
+ * Strong entity tag of a single product, {@code "<id>-<version>"}. It is sent with product-by-id
+ * responses and accepted back in {@code If-Match}, so an edit can name the version it was based on.
+ */
+public record ProductETag(String productId, long version) {
+
+    public static ProductETag decode(String productId, String header) throws ProductVersionConflictException {
+        String value = header.trim();
+        String prefix = "\"" + productId + "-";
+        if (!value.startsWith(prefix) || !value.endsWith("\"") || value.length() <= prefix.length() + 1) {
+            throw new ProductVersionConflictException("If-Match " + header + " does not match product " + productId);
+        }
+        try {
+            return new ProductETag(productId, Long.parseLong(value.substring(prefix.length(), value.length() - 1)));
+        } catch (NumberFormatException e) {
+            throw new ProductVersionConflictException("If-Match " + header + " does not match product " + productId);
+        }
+    }
+
+    public String encode() {
+        return "\"" + productId + "-" + version + "\"";
+    }
+
+}
@@ -1,15 +1,28 @@
 package com.wellNexa.productservice.controllers;
 
+import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import com.wellNexa.productservice.caching.CatalogResponseCache;
+import com.wellNexa.productservice.caching.ProductETag;
 import com.wellNexa.productservice.dtos.ApiResponseDto;
+import com.wellNexa.productservice.dtos.ProductPatchRequestDto;
 import com.wellNexa.productservice.dtos.ProductRequestDto;
+import com.wellNexa.productservice.events.CategoryRenameHandler;
+import com.wellNexa.productservice.exceptions.ProductVersionConflictException;
+import com.wellNexa.productservice.exceptions.ProductVersionRequiredException;
 import com.wellNexa.productservice.exceptions.ResourceNotFoundException;
 import com.wellNexa.productservice.exceptions.ServiceLogicException;
+import com.wellNexa.productservice.services.ProductImportService;
 import com.wellNexa.productservice.services.ProductService;
 
+import java.io.IOException;
+import java.util.List;
+
 @RestController
 @RequestMapping("/admin/product")
 public class AdminProductController {
@@ -17,14 +30,72 @@ public class AdminProductController {
     @Autowired
     private ProductService productService;
 
+    @Autowired
+    private ProductImportService productImportService;
+
+    @Autowired
+    private CatalogResponseCache catalogResponseCache;
+
+    @Autowired
+    private CategoryRenameHandler categoryRenameHandler;
+
     @PostMapping("/add")
     public ResponseEntity<ApiResponseDto<?>> addProduct(@RequestBody ProductRequestDto requestDto) throws ServiceLogicException, ResourceNotFoundException {
         return productService.addProduct(requestDto);
     }
 
     @PutMapping("/edit")
-    public ResponseEntity<ApiResponseDto<?>> editProduct(@RequestParam String productId, @RequestBody ProductRequestDto requestDto) throws ServiceLogicException, ResourceNotFoundException {
+    public ResponseEntity<ApiResponseDto<?>> editProduct(@RequestParam String productId,
+                                                         @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                                         @RequestBody ProductRequestDto requestDto) throws ServiceLogicException, ResourceNotFoundException, ProductVersionConflictException, ProductVersionRequiredException {
+        if (ifMatch != null) {
+            long version = ProductETag.decode(productId, ifMatch).version();
+            if (requestDto.getVersion() != null && requestDto.getVersion() != version) {
+                throw new ProductVersionConflictException("If-Match version " + version + " does not match body version " + requestDto.getVersion());
+            }
+            requestDto.setVersion(version);
+        }
         return productService.editProduct(productId, requestDto);
     }
 
+    @PatchMapping("/edit/bulk")
+    public ResponseEntity<ApiResponseDto<?>> bulkPatchProducts(@RequestBody List<ProductPatchRequestDto> patches) throws ServiceLogicException {
+        return productService.bulkPatchProducts(patches);
+    }
+
+    @PostMapping(value = "/import", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<ApiResponseDto<?>> importProducts(HttpServletRequest request) throws ServiceLogicException, IOException {
+        return productImportService.importProducts(request.getInputStream());
+    }
+
+    @PostMapping("/related/rebuild")
+    public ResponseEntity<ApiResponseDto<?>> rebuildRelatedProducts(@RequestParam(defaultValue = "false") boolean backfill) throws ServiceLogicException {
+        return productService.rebuildRelatedProducts(backfill);
+    }
+
+    @PostMapping("/category/rename/sync")
+    public ResponseEntity<ApiResponseDto<?>> syncCategoryName(@RequestParam String categoryId) throws ServiceLogicException, ResourceNotFoundException {
+        return productService.syncCategoryName(categoryId);
+    }
+
+    @GetMapping("/category/rename/status")
+    public ResponseEntity<ApiResponseDto<?>> getCategoryRenameJobs() {
+        return ResponseEntity.ok(
+                ApiResponseDto.builder()
+                        .isSuccess(true)
+                        .response(categoryRenameHandler.getJobs())
+                        .build()
+        );
+    }
+
+    @GetMapping("/cache/stats")
+    public ResponseEntity<ApiResponseDto<?>> getResponseCacheStats() {
+        return ResponseEntity.ok(
+                ApiResponseDto.builder()
+                        .isSuccess(true)
+                        .response(catalogResponseCache.getStats())
+                        .build()
+        );
+    }
+
 }
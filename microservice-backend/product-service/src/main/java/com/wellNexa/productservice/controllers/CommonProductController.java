@@ -1,14 +1,30 @@
 package com.wellNexa.productservice.controllers;
 
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.context.request.async.DeferredResult;
 
+import com.wellNexa.productservice.analytics.ProductPopularityTracker;
+import com.wellNexa.productservice.analytics.RecentlyViewedTracker;
+import com.wellNexa.productservice.caching.CatalogResponseCache;
+import com.wellNexa.productservice.caching.CatalogVersionTracker;
+import com.wellNexa.productservice.caching.CategoryCache;
 import com.wellNexa.productservice.dtos.ApiResponseDto;
+import com.wellNexa.productservice.dtos.ProductFilterRequestDto;
+import com.wellNexa.productservice.events.ProductEventOutbox;
 import com.wellNexa.productservice.exceptions.ResourceNotFoundException;
 import com.wellNexa.productservice.exceptions.ServiceLogicException;
 import com.wellNexa.productservice.services.ProductService;
 
+import java.io.IOException;
+import java.util.List;
+
 
 @RestController
 @RequestMapping("/product")
@@ -17,25 +33,99 @@ public class CommonProductController {
     @Autowired
     private ProductService productService;
 
+    @Autowired
+    private CatalogVersionTracker catalogVersionTracker;
+
+    @Autowired
+    private CatalogResponseCache catalogResponseCache;
+
+    @Autowired
+    private CategoryCache categoryCache;
+
+    @Autowired
+    private RecentlyViewedTracker recentlyViewedTracker;
+
+    @Autowired
+    private ProductPopularityTracker popularityTracker;
+
+    @Autowired
+    private ProductEventOutbox productEventOutbox;
+
     @GetMapping("/get/all")
-    public ResponseEntity<ApiResponseDto<?>> getAllProducts() throws ServiceLogicException{
-        return productService.getAllProducts();
+    public void getAllProducts(WebRequest webRequest, HttpServletRequest request, HttpServletResponse response) throws ServiceLogicException, ResourceNotFoundException, IOException {
+        if (webRequest.checkNotModified(catalogVersionTracker.eTag("all"), catalogVersionTracker.getLastModified())) {
+            return;
+        }
+        catalogResponseCache.write("all", request, response, productService::getAllProducts);
     }
 
+    /**
+     * Counts a view for end users only; other services read products here on every cart render,
+     * which must not feed the popularity rankings.
+     */
     @GetMapping("/get/byId")
-    public ResponseEntity<ApiResponseDto<?>> getProductById(@RequestParam String id) throws ServiceLogicException{
-        return productService.getProductById(id);
+    public ResponseEntity<ApiResponseDto<?>> getProductById(@RequestParam String id, Authentication authentication, WebRequest webRequest) throws ServiceLogicException{
+        ResponseEntity<ApiResponseDto<?>> response = productService.getProductById(id);
+        boolean found = response.getBody() != null && response.getBody().getResponse() != null;
+        if (found && !isServiceCaller(authentication)) {
+            popularityTracker.recordView(id);
+            if (authentication != null) {
+                recentlyViewedTracker.recordView(authentication.getPrincipal().toString(), id);
+            }
+        }
+        String eTag = response.getHeaders().getETag();
+        if (eTag != null && webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+        return response;
     }
 
     @GetMapping("/get/byCategory")
-    public ResponseEntity<ApiResponseDto<?>> getProductByCategory(@RequestParam String id) throws ServiceLogicException, ResourceNotFoundException {
-        return productService.getProductByCategory(id);
+    public void getProductByCategory(@RequestParam String id, WebRequest webRequest, HttpServletRequest request, HttpServletResponse response) throws ServiceLogicException, ResourceNotFoundException, IOException {
+        // a deleted category is never answered with 304, so clients get the not-found error
+        if (categoryCache.getCategory(id) != null
+                && webRequest.checkNotModified(catalogVersionTracker.eTag("category-" + id), catalogVersionTracker.getLastModified())) {
+            return;
+        }
+        catalogResponseCache.write(CatalogResponseCache.categoryKey(id), request, response, () -> productService.getProductByCategory(id));
     }
 
     @GetMapping("/search")
-    public ResponseEntity<ApiResponseDto<?>> searchProducts(@RequestParam String searchKey) throws ServiceLogicException{
-        return productService.searchProducts(searchKey);
+    public void searchProducts(@RequestParam String searchKey, HttpServletRequest request, HttpServletResponse response) throws ServiceLogicException, ResourceNotFoundException, IOException {
+        String normalizedKey = searchKey.trim().toLowerCase();
+        catalogResponseCache.write("search:" + normalizedKey, request, response, () -> productService.searchProducts(normalizedKey));
+    }
+
+    @GetMapping("/filter")
+    public ResponseEntity<ApiResponseDto<?>> filterProducts(@ModelAttribute ProductFilterRequestDto filter) throws ServiceLogicException {
+        return productService.filterProducts(filter);
+    }
+
+    @GetMapping("/{id}/related")
+    public ResponseEntity<ApiResponseDto<?>> getRelatedProducts(@PathVariable String id) throws ServiceLogicException {
+        return productService.getRelatedProducts(id);
+    }
+
+    @GetMapping("/recent")
+    @PreAuthorize("hasRole('ROLE_USER')")
+    public ResponseEntity<ApiResponseDto<?>> getRecentlyViewedProducts(Authentication authentication) throws ServiceLogicException {
+        return productService.getRecentlyViewedProducts(authentication.getPrincipal().toString());
+    }
+
+    @GetMapping("/count/byCategory")
+    public ResponseEntity<ApiResponseDto<?>> getProductCountsByCategory(@RequestParam(required = false) List<String> categoryIds) throws ServiceLogicException {
+        return productService.getProductCountsByCategory(categoryIds);
     }
 
+    @GetMapping("/events")
+    public DeferredResult<ResponseEntity<ApiResponseDto<?>>> getProductEvents(@RequestParam(defaultValue = "-1") long after,
+                                                                             @RequestParam(defaultValue = "25000") long waitMs) {
+        return productEventOutbox.poll(after, waitMs);
+    }
+
+    private boolean isServiceCaller(Authentication authentication) {
+        return authentication != null && authentication.getAuthorities().stream()
+                .anyMatch(authority -> "ROLE_SERVICE".equals(authority.getAuthority()));
+    }
 
 }
@@ -0,0 +1,38 @@
+package com.wellNexa.productservice.controllers;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import com.wellNexa.productservice.analytics.ProductPopularityTracker;
+import com.wellNexa.productservice.dtos.ApiResponseDto;
+import com.wellNexa.productservice.dtos.OrderBasketDto;
+import com.wellNexa.productservice.exceptions.ServiceLogicException;
+import com.wellNexa.productservice.services.ProductService;
+
+@RestController
+@RequestMapping("/internal/product")
+public class InternalProductController {
+
+    @Autowired
+    private ProductPopularityTracker productPopularityTracker;
+
+    @Autowired
+    private ProductService productService;
+
+    @PostMapping("/track/cart")
+    public ResponseEntity<ApiResponseDto<?>> trackAddToCart(@RequestParam String id) {
+        productPopularityTracker.recordAddToCart(id);
+        return ResponseEntity.ok(
+                ApiResponseDto.builder()
+                        .isSuccess(true)
+                        .build()
+        );
+    }
+
+    @PostMapping("/related/baskets")
+    public ResponseEntity<ApiResponseDto<?>> recordOrderBasket(@RequestBody OrderBasketDto basket) throws ServiceLogicException {
+        return productService.recordOrderBasket(basket);
+    }
+
+}
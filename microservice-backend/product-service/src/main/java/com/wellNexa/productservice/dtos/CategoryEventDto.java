@@ -0,0 +1,24 @@
+package com.wellNexa.productservice.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import com.wellNexa.productservice.enums.ECategoryEventType;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CategoryEventDto {
+
+    private long sequence;
+
+    private ECategoryEventType type;
+
+    private String categoryId;
+
+    private String categoryName;
+
+}
@@ -0,0 +1,20 @@
+package com.wellNexa.productservice.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CategoryProductCountDto {
+
+    @Id
+    private String categoryId;
+
+    private long count;
+
+}
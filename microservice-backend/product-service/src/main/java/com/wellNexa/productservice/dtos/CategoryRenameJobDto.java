@@ -0,0 +1,30 @@
+package com.wellNexa.productservice.dtos;
+
+import lombok.Builder;
+import lombok.Data;
+
+import com.wellNexa.productservice.enums.ECategoryRenameStatus;
+
+import java.util.Date;
+
+@Data
+@Builder
+public class CategoryRenameJobDto {
+
+    private String categoryId;
+
+    private String categoryName;
+
+    private ECategoryRenameStatus status;
+
+    private long matched;
+
+    private long modified;
+
+    private Date requestedAt;
+
+    private Date finishedAt;
+
+    private String message;
+
+}
@@ -0,0 +1,22 @@
+package com.wellNexa.productservice.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventPageDto<E> {
+
+    private List<E> events;
+
+    private long lastSequence;
+
+    private boolean reset;
+
+}
@@ -0,0 +1,16 @@
+package com.wellNexa.productservice.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class FacetCountDto {
+
+    private String key;
+
+    private String label;
+
+    private long count;
+
+}
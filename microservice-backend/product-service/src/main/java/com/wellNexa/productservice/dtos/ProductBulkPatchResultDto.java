@@ -0,0 +1,20 @@
+package com.wellNexa.productservice.dtos;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class ProductBulkPatchResultDto {
+
+    private int requested;
+
+    private int updated;
+
+    private int failed;
+
+    private List<ProductPatchErrorDto> errors;
+
+}
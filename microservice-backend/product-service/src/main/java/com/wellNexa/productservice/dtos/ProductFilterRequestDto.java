@@ -0,0 +1,26 @@
+package com.wellNexa.productservice.dtos;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import com.wellNexa.productservice.enums.EProductSortOrder;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+public class ProductFilterRequestDto {
+
+    private List<String> categoryIds;
+
+    private Double minPrice;
+
+    private Double maxPrice;
+
+    private EProductSortOrder sort = EProductSortOrder.NEWEST;
+
+    private int page = 0;
+
+    private int size = 24;
+
+}
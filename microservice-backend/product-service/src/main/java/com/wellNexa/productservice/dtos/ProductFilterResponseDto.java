@@ -0,0 +1,26 @@
+package com.wellNexa.productservice.dtos;
+
+import lombok.Builder;
+import lombok.Data;
+
+import com.wellNexa.productservice.models.Product;
+
+import java.util.List;
+
+@Data
+@Builder
+public class ProductFilterResponseDto {
+
+    private List<Product> products;
+
+    private long total;
+
+    private int page;
+
+    private int size;
+
+    private List<FacetCountDto> categoryFacets;
+
+    private List<FacetCountDto> priceFacets;
+
+}
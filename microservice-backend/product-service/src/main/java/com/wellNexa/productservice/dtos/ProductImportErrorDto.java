@@ -0,0 +1,14 @@
+package com.wellNexa.productservice.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class ProductImportErrorDto {
+
+    private long row;
+
+    private String message;
+
+}
@@ -0,0 +1,22 @@
+package com.wellNexa.productservice.dtos;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class ProductImportResultDto {
+
+    private long rowsRead;
+
+    private long imported;
+
+    private long failed;
+
+    private List<ProductImportErrorDto> errors;
+
+    private boolean errorsTruncated;
+
+}
@@ -0,0 +1,14 @@
+package com.wellNexa.productservice.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class ProductPatchErrorDto {
+
+    private String productId;
+
+    private String message;
+
+}
@@ -0,0 +1,26 @@
+package com.wellNexa.productservice.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductPatchRequestDto {
+
+    private String productId;
+
+    private Long expectedVersion;
+
+    private String productName;
+
+    private Double price;
+
+    private String description;
+
+    private String imageUrl;
+
+    private String categoryId;
+
+}
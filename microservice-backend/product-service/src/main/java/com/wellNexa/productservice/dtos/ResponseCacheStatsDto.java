@@ -0,0 +1,24 @@
+package com.wellNexa.productservice.dtos;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class ResponseCacheStatsDto {
+
+    private int entries;
+
+    private long usedBytes;
+
+    private long maxBytes;
+
+    private long hits;
+
+    private long misses;
+
+    private double hitRate;
+
+    private long catalogVersion;
+
+}
@@ -0,0 +1,7 @@
+package com.wellNexa.productservice.enums;
+
+public enum ECategoryEventType {
+    CATEGORY_CREATED,
+    CATEGORY_UPDATED,
+    CATEGORY_DELETED
+}
@@ -0,0 +1,8 @@
+package com.wellNexa.productservice.enums;
+
+public enum ECategoryRenameStatus {
+    PENDING,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
@@ -0,0 +1,5 @@
+package com.wellNexa.productservice.enums;
+
+public enum EProductEventType {
+    PRODUCTS_CHANGED
+}
@@ -0,0 +1,11 @@
+package com.wellNexa.productservice.enums;
+
+public enum EProductSortOrder {
+    NEWEST,
+    PRICE_ASC,
+    PRICE_DESC,
+    NAME_ASC,
+    NAME_DESC,
+    BEST_SELLING,
+    TRENDING
+}
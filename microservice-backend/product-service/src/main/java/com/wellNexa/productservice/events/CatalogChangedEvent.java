@@ -0,0 +1,14 @@
+package com.wellNexa.productservice.events;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class CatalogChangedEvent {
+
+    private List<String> productIds;
+
+}
@@ -0,0 +1,14 @@
+package com.wellNexa.productservice.events;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Map;
+
+@Getter
+@AllArgsConstructor
+public class CategoriesReloadedEvent {
+
+    private Map<String, String> categoryNames;
+
+}
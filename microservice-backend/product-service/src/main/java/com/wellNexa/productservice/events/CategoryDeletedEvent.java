@@ -0,0 +1,12 @@
+package com.wellNexa.productservice.events;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class CategoryDeletedEvent {
+
+    private String categoryId;
+
+}
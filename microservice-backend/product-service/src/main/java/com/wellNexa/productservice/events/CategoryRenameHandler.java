@@ -0,0 +1,141 @@
+package com.wellNexa.productservice.events;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import com.mongodb.client.result.UpdateResult;
+import com.wellNexa.productservice.dtos.CategoryRenameJobDto;
+import com.wellNexa.productservice.enums.ECategoryRenameStatus;
+import com.wellNexa.productservice.models.Product;
+
+import java.util.Comparator;
+import java.util.Date;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Rewrites the category name denormalized onto products when a category is renamed. Each rename
+ * becomes one {@code updateMany} on {@code categoryId}, run in the background on a single worker
+ * so that successive renames of the same category are applied in order. Every full reload of the
+ * categories is reconciled against the names on products too, which catches renames made while
+ * this service was not following category events. The latest job per category is kept for the
+ * admin status endpoint.
+ */
+@Slf4j
+@Component
+public class CategoryRenameHandler {
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    private final ExecutorService worker = Executors.newSingleThreadExecutor(Thread.ofVirtual().name("category-rename").factory());
+
+    private final Map<String, CategoryRenameJobDto> jobs = new ConcurrentHashMap<>();
+
+    @EventListener
+    public void onCategoryRenamed(CategoryRenamedEvent event) {
+        submit(event.getCategoryId(), event.getCategoryName());
+    }
+
+    @EventListener
+    public void onCategoriesReloaded(CategoriesReloadedEvent event) {
+        worker.execute(() -> reconcile(event.getCategoryNames()));
+    }
+
+    public CategoryRenameJobDto submit(String categoryId, String categoryName) {
+        CategoryRenameJobDto job = CategoryRenameJobDto.builder()
+                .categoryId(categoryId)
+                .categoryName(categoryName)
+                .status(ECategoryRenameStatus.PENDING)
+                .requestedAt(new Date())
+                .build();
+        jobs.put(categoryId, job);
+        worker.execute(() -> run(job));
+        return job;
+    }
+
+    public List<CategoryRenameJobDto> getJobs() {
+        return jobs.values().stream()
+                .sorted(Comparator.comparing(CategoryRenameJobDto::getRequestedAt).reversed())
+                .toList();
+    }
+
+    @PreDestroy
+    public void stop() {
+        worker.shutdown();
+    }
+
+    private void run(CategoryRenameJobDto job) {
+        job.setStatus(ECategoryRenameStatus.RUNNING);
+        try {
+            Query stale = Query.query(Criteria.where("categoryId").is(job.getCategoryId())
+                    .and("categoryName").ne(job.getCategoryName()));
+            stale.fields().include("_id");
+            List<String> productIds = mongoTemplate.find(stale, Product.class).stream().map(Product::getId).toList();
+            job.setMatched(productIds.size());
+
+            if (!productIds.isEmpty()) {
+                UpdateResult result = mongoTemplate.updateMulti(
+                        Query.query(Criteria.where("categoryId").is(job.getCategoryId())
+                                .and("categoryName").ne(job.getCategoryName())),
+                        new Update().set("categoryName", job.getCategoryName()).inc("version", 1),
+                        Product.class
+                );
+                job.setModified(result.getModifiedCount());
+                eventPublisher.publishEvent(new CatalogChangedEvent(productIds));
+            }
+            job.setStatus(ECategoryRenameStatus.COMPLETED);
+            log.info("Renamed category " + job.getCategoryId() + " on " + job.getModified() + " products");
+        } catch (Exception e) {
+            job.setStatus(ECategoryRenameStatus.FAILED);
+            job.setMessage(e.getMessage());
+            log.error("Unable to rename category on products: " + e.getMessage());
+        } finally {
+            job.setFinishedAt(new Date());
+        }
+    }
+
+    /**
+     * Groups products by category id and denormalized name in one aggregation and queues a
+     * rename for every category that some product still shows under another name.
+     */
+    private void reconcile(Map<String, String> categoryNames) {
+        try {
+            Aggregation aggregation = Aggregation.newAggregation(
+                    Aggregation.match(Criteria.where("categoryId").in(categoryNames.keySet())),
+                    Aggregation.group("categoryId", "categoryName")
+            );
+            Set<String> stale = new LinkedHashSet<>();
+            for (Document group : mongoTemplate.aggregate(aggregation, Product.class, Document.class).getMappedResults()) {
+                Document key = group.get("_id", Document.class);
+                String categoryId = key.getString("categoryId");
+                if (!Objects.equals(categoryNames.get(categoryId), key.getString("categoryName"))) {
+                    stale.add(categoryId);
+                }
+            }
+            stale.forEach(categoryId -> submit(categoryId, categoryNames.get(categoryId)));
+        } catch (Exception e) {
+            log.error("Unable to reconcile category names on products: " + e.getMessage());
+        }
+    }
+
+}
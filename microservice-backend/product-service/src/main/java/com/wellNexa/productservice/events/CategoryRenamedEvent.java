@@ -0,0 +1,14 @@
+package com.wellNexa.productservice.events;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class CategoryRenamedEvent {
+
+    private String categoryId;
+
+    private String categoryName;
+
+}
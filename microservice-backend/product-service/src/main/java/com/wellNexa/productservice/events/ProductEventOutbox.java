@@ -0,0 +1,33 @@
+package com.wellNexa.productservice.events;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import com.wellNexa.productservice.enums.EProductEventType;
+import com.wellNexa.productservice.models.ProductEvent;
+
+/**
+ * Records every catalog write as a {@code PRODUCTS_CHANGED} event in {@code product_events}, so
+ * that consumers can refetch exactly the products that changed.
+ */
+@Component
+public class ProductEventOutbox extends EventOutbox<ProductEvent> {
+
+    public ProductEventOutbox() {
+        super(ProductEvent.class, "product_event_sequence", "product-events");
+    }
+
+    @Order(1)
+    @EventListener
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        if (event.getProductIds() == null || event.getProductIds().isEmpty()) {
+            return;
+        }
+        record(ProductEvent.builder()
+                .type(EProductEventType.PRODUCTS_CHANGED)
+                .productIds(event.getProductIds())
+                .build());
+    }
+
+}
@@ -6,6 +6,8 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
 import com.wellNexa.productservice.dtos.ApiResponseDto;
+import com.wellNexa.productservice.exceptions.ProductVersionConflictException;
+import com.wellNexa.productservice.exceptions.ProductVersionRequiredException;
 import com.wellNexa.productservice.exceptions.ResourceNotFoundException;
 import com.wellNexa.productservice.exceptions.ServiceLogicException;
 
@@ -34,4 +36,24 @@ public class RestExceptionHandler {
         );
     }
 
+    @ExceptionHandler(value = ProductVersionConflictException.class)
+    public ResponseEntity<ApiResponseDto<?>> ProductVersionConflictExceptionHandler(ProductVersionConflictException exception) {
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(
+                ApiResponseDto.builder()
+                        .isSuccess(false)
+                        .message(exception.getMessage())
+                        .build()
+        );
+    }
+
+    @ExceptionHandler(value = ProductVersionRequiredException.class)
+    public ResponseEntity<ApiResponseDto<?>> ProductVersionRequiredExceptionHandler(ProductVersionRequiredException exception) {
+        return ResponseEntity.status(HttpStatus.PRECONDITION_REQUIRED).body(
+                ApiResponseDto.builder()
+                        .isSuccess(false)
+                        .message(exception.getMessage())
+                        .build()
+        );
+    }
+
 }
@@ -0,0 +1,7 @@
+package com.wellNexa.productservice.exceptions;
+
+public class ProductVersionConflictException extends Exception{
+    public ProductVersionConflictException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.wellNexa.productservice.exceptions;
+
+public class ProductVersionRequiredException extends Exception{
+    public ProductVersionRequiredException(String message) {
+        super(message);
+    }
+}
@@ -7,6 +7,10 @@ import org.springframework.web.bind.annotation.RequestParam;
 
 import com.wellNexa.productservice.dtos.ApiResponseDto;
 import com.wellNexa.productservice.dtos.CategoryDto;
+import com.wellNexa.productservice.dtos.CategoryEventDto;
+import com.wellNexa.productservice.dtos.EventPageDto;
+
+import java.util.List;
 
 @FeignClient("CATEGORY-SERVICE")
 public interface CategoryService {
@@ -14,4 +18,10 @@ public interface CategoryService {
     @GetMapping("/category/get/byId")
     ResponseEntity<ApiResponseDto<CategoryDto>> getCategoryById(@RequestParam String id);
 
+    @GetMapping("/category/get/all")
+    ResponseEntity<ApiResponseDto<List<CategoryDto>>> getAllCategories();
+
+    @GetMapping("/category/events")
+    ResponseEntity<ApiResponseDto<EventPageDto<CategoryEventDto>>> getCategoryEvents(@RequestParam long after, @RequestParam long waitMs);
+
 }
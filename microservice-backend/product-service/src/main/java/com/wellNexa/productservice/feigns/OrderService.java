@@ -0,0 +1,20 @@
+package com.wellNexa.productservice.feigns;
+
+import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import com.wellNexa.productservice.dtos.ApiResponseDto;
+import com.wellNexa.productservice.dtos.OrderBasketPageDto;
+
+@FeignClient("ORDER-SERVICE")
+public interface OrderService {
+
+    @GetMapping("/internal/order/baskets")
+    ResponseEntity<ApiResponseDto<OrderBasketPageDto>> getOrderBaskets(@RequestHeader("X-Service-Token") String serviceToken,
+                                                                       @RequestParam(required = false) String cursor,
+                                                                       @RequestParam int size);
+
+}
@@ -3,17 +3,22 @@ package com.wellNexa.productservice.models;
 import lombok.Builder;
 import lombok.Data;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.IndexDirection;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 @Data
 @Builder
 @Document(collection = "products")
+@CompoundIndex(name = "category_price", def = "{'categoryId': 1, 'price': 1}")
 public class Product {
     @Id
     private String id;
 
     private String productName;
 
+    @Indexed
     private double price;
 
     private String description;
@@ -24,4 +29,14 @@ public class Product {
 
     private String categoryName;
 
+    private long version;
+
+    private long viewCount;
+
+    @Indexed(direction = IndexDirection.DESCENDING)
+    private long cartCount;
+
+    @Indexed(direction = IndexDirection.DESCENDING)
+    private double trendingScore;
+
 }
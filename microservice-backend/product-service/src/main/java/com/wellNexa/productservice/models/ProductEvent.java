@@ -0,0 +1,33 @@
+package com.wellNexa.productservice.models;
+
+import lombok.Builder;
+import lombok.Data;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import com.wellNexa.productservice.enums.EProductEventType;
+import com.wellNexa.productservice.events.OutboxEvent;
+
+import java.util.Date;
+import java.util.List;
+
+@Data
+@Document(collection = "product_events")
+@Builder
+public class ProductEvent implements OutboxEvent {
+
+    @Id
+    private String id;
+
+    @Indexed(unique = true)
+    private long sequence;
+
+    private EProductEventType type;
+
+    private List<String> productIds;
+
+    @Indexed(expireAfter = "7d")
+    private Date createdAt;
+
+}
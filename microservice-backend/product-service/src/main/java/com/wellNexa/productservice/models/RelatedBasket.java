@@ -0,0 +1,22 @@
+package com.wellNexa.productservice.models;
+
+import lombok.Builder;
+import lombok.Data;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.util.List;
+
+@Data
+@Builder
+@Document(collection = "related_baskets")
+public class RelatedBasket {
+
+    @Id
+    private String orderId;
+
+    private List<String> productIds;
+
+    private boolean voided;
+
+}
@@ -0,0 +1,213 @@
+package com.wellNexa.productservice.recommendations;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Sparse product-pair co-occurrence counts. Product ids are interned to ints and every product
+ * owns an open-addressing int-to-int row of neighbour counts plus a top-N neighbour list that is
+ * maintained incrementally, so reading the related products of an id is a single map lookup.
+ * Removing a basket only rescans a row when one of its top neighbours lost count.
+ */
+public class CoOccurrenceMatrix {
+
+    private final int topN;
+    private final int maxBasketSize;
+
+    private final Map<String, Integer> indexById = new HashMap<>();
+    private final List<String> idByIndex = new ArrayList<>();
+    private final List<Row> rows = new ArrayList<>();
+    private final Map<String, List<String>> related = new ConcurrentHashMap<>();
+
+    public CoOccurrenceMatrix(int topN, int maxBasketSize) {
+        this.topN = topN;
+        this.maxBasketSize = maxBasketSize;
+    }
+
+    public List<String> getRelated(String productId) {
+        return related.getOrDefault(productId, List.of());
+    }
+
+    public synchronized void addBasket(Collection<String> productIds) {
+        int[] basket = basket(productIds);
+        if (basket.length < 2) {
+            return;
+        }
+        for (int a : basket) {
+            Row row = rows.get(a);
+            for (int b : basket) {
+                if (a != b) {
+                    row.offerTop(b, row.increment(b));
+                }
+            }
+            related.put(idByIndex.get(a), row.topIds());
+        }
+    }
+
+    public synchronized void removeBasket(Collection<String> productIds) {
+        int[] basket = basket(productIds);
+        if (basket.length < 2) {
+            return;
+        }
+        for (int a : basket) {
+            Row row = rows.get(a);
+            boolean topChanged = false;
+            for (int b : basket) {
+                if (a != b) {
+                    row.decrement(b);
+                    topChanged |= row.isTop(b);
+                }
+            }
+            if (topChanged) {
+                row.rebuildTop();
+                related.put(idByIndex.get(a), row.topIds());
+            }
+        }
+    }
+
+    public synchronized int size() {
+        return idByIndex.size();
+    }
+
+    private int[] basket(Collection<String> productIds) {
+        return new LinkedHashSet<>(productIds).stream()
+                .limit(maxBasketSize)
+                .mapToInt(this::intern)
+                .toArray();
+    }
+
+    private int intern(String productId) {
+        return indexById.computeIfAbsent(productId, id -> {
+            idByIndex.add(id);
+            rows.add(new Row());
+            return idByIndex.size() - 1;
+        });
+    }
+
+    private final class Row {
+        private static final int EMPTY = -1;
+
+        private int[] keys = emptyKeys(4);
+        private int[] counts = new int[4];
+        private int size;
+
+        private final int[] topIndexes = new int[topN];
+        private final int[] topCounts = new int[topN];
+        private int topSize;
+
+        int increment(int key) {
+            int slot = find(key);
+            if (keys[slot] == EMPTY) {
+                keys[slot] = key;
+                if (++size * 2 > keys.length) {
+                    grow();
+                    slot = find(key);
+                }
+            }
+            return ++counts[slot];
+        }
+
+        void decrement(int key) {
+            int slot = find(key);
+            if (keys[slot] != EMPTY && counts[slot] > 0) {
+                counts[slot]--;
+            }
+        }
+
+        boolean isTop(int key) {
+            for (int i = 0; i < topSize; i++) {
+                if (topIndexes[i] == key) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        void rebuildTop() {
+            topSize = 0;
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] != EMPTY && counts[i] > 0) {
+                    offerTop(keys[i], counts[i]);
+                }
+            }
+        }
+
+        void offerTop(int key, int count) {
+            int position = -1;
+            for (int i = 0; i < topSize; i++) {
+                if (topIndexes[i] == key) {
+                    position = i;
+                    break;
+                }
+            }
+            if (position < 0) {
+                if (topSize < topN) {
+                    position = topSize++;
+                } else if (topN > 0 && count > topCounts[topSize - 1]) {
+                    position = topSize - 1;
+                } else {
+                    return;
+                }
+            }
+            topIndexes[position] = key;
+            topCounts[position] = count;
+            while (position > 0 && topCounts[position - 1] < topCounts[position]) {
+                swap(position - 1, position);
+                position--;
+            }
+        }
+
+        List<String> topIds() {
+            List<String> ids = new ArrayList<>(topSize);
+            for (int i = 0; i < topSize; i++) {
+                ids.add(idByIndex.get(topIndexes[i]));
+            }
+            return List.copyOf(ids);
+        }
+
+        private int find(int key) {
+            int mask = keys.length - 1;
+            int slot = (key * 0x9E3779B9) >>> 1 & mask;
+            while (keys[slot] != EMPTY && keys[slot] != key) {
+                slot = (slot + 1) & mask;
+            }
+            return slot;
+        }
+
+        private void grow() {
+            int[] oldKeys = keys;
+            int[] oldCounts = counts;
+            keys = emptyKeys(oldKeys.length * 2);
+            counts = new int[oldKeys.length * 2];
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] != EMPTY) {
+                    int slot = find(oldKeys[i]);
+                    keys[slot] = oldKeys[i];
+                    counts[slot] = oldCounts[i];
+                }
+            }
+        }
+
+        private void swap(int i, int j) {
+            int index = topIndexes[i];
+            int count = topCounts[i];
+            topIndexes[i] = topIndexes[j];
+            topCounts[i] = topCounts[j];
+            topIndexes[j] = index;
+            topCounts[j] = count;
+        }
+
+        private static int[] emptyKeys(int capacity) {
+            int[] keys = new int[capacity];
+            Arrays.fill(keys, EMPTY);
+            return keys;
+        }
+    }
+
+}
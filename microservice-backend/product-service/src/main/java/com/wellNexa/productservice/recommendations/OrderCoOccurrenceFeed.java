@@ -0,0 +1,205 @@
+package com.wellNexa.productservice.recommendations;
+
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import com.wellNexa.productservice.dtos.OrderBasketDto;
+import com.wellNexa.productservice.dtos.OrderBasketPageDto;
+import com.wellNexa.productservice.feigns.OrderService;
+import com.wellNexa.productservice.models.RelatedBasket;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+/**
+ * Feeds order baskets into the co-occurrence matrix. Order-service pushes every placed order, and
+ * every order that is later cancelled or returned, through its order task outbox, so deliveries
+ * are retried until they land and may arrive more than once or out of order. Each basket is kept
+ * in {@code related_baskets} keyed by order id, which makes applying a delivery idempotent and
+ * lets a rebuild recompute the matrix from this service's own data in parallel id range scans.
+ * When that collection is empty, the history is first paged in from order-service.
+ */
+@Slf4j
+@Component
+public class OrderCoOccurrenceFeed {
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Value("${security.service-token:}")
+    private String serviceToken;
+
+    @Value("${catalog.related.top-n:10}")
+    private int topN;
+
+    @Value("${catalog.related.max-basket-size:50}")
+    private int maxBasketSize;
+
+    @Value("${catalog.related.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${catalog.related.rebuild-partitions:8}")
+    private int rebuildPartitions;
+
+    private volatile CoOccurrenceMatrix matrix;
+
+    public List<String> getRelated(String productId) {
+        CoOccurrenceMatrix current = matrix;
+        return current == null ? List.of() : current.getRelated(productId);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        Thread.ofVirtual().name("related-products-rebuild").start(() -> {
+            try {
+                rebuild(!mongoTemplate.exists(new Query(), RelatedBasket.class));
+            } catch (Exception e) {
+                log.warn("Unable to rebuild related products: " + e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * Records a delivered basket and applies it to the matrix if this delivery changed anything:
+     * a basket counts once however often it is delivered, and a voided basket is subtracted once
+     * if it was counted, or never counted if the void arrives first. Runs under the same lock as
+     * {@link #rebuild(boolean)} so a rebuild never misses or double counts a delivery.
+     */
+    public synchronized void apply(OrderBasketDto basket) {
+        if (basket.getOrderId() == null || basket.getProductIds() == null) {
+            throw new IllegalArgumentException("Order id and product ids are required");
+        }
+        if (!basket.isVoided()) {
+            try {
+                mongoTemplate.insert(RelatedBasket.builder()
+                        .orderId(basket.getOrderId())
+                        .productIds(basket.getProductIds())
+                        .voided(false)
+                        .build());
+                if (matrix != null) {
+                    matrix.addBasket(basket.getProductIds());
+                }
+            } catch (DuplicateKeyException e) {
+                // already counted, or voided before it arrived
+            }
+            return;
+        }
+        try {
+            RelatedBasket previous = mongoTemplate.findAndModify(
+                    Query.query(Criteria.where("orderId").is(basket.getOrderId()).and("voided").is(false)),
+                    new Update().set("voided", true).setOnInsert("productIds", basket.getProductIds()),
+                    FindAndModifyOptions.options().upsert(true),
+                    RelatedBasket.class
+            );
+            if (previous != null && matrix != null) {
+                matrix.removeBasket(previous.getProductIds());
+            }
+        } catch (DuplicateKeyException e) {
+            // already voided
+        }
+    }
+
+    /**
+     * Rebuilds the matrix from the stored baskets, optionally paging the full order history in
+     * from order-service first. Baskets are split into id ranges by order creation time and
+     * scanned concurrently on virtual threads.
+     */
+    public synchronized int rebuild(boolean backfill) throws Exception {
+        if (backfill) {
+            backfill();
+        }
+        CoOccurrenceMatrix rebuilt = new CoOccurrenceMatrix(topN, maxBasketSize);
+        RelatedBasket first = mongoTemplate.findOne(new Query().with(Sort.by(Sort.Direction.ASC, "_id")).limit(1), RelatedBasket.class);
+        RelatedBasket last = mongoTemplate.findOne(new Query().with(Sort.by(Sort.Direction.DESC, "_id")).limit(1), RelatedBasket.class);
+        if (first == null || last == null) {
+            matrix = rebuilt;
+            return 0;
+        }
+
+        long from = new ObjectId(first.getOrderId()).getTimestamp();
+        long to = new ObjectId(last.getOrderId()).getTimestamp() + 1L;
+        long step = Math.max((to - from + rebuildPartitions - 1) / rebuildPartitions, 1L);
+
+        List<Future<Integer>> scans = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long start = from; start < to; start += step) {
+                Criteria range = Criteria.where("_id")
+                        .gte(timestampId(start))
+                        .lt(timestampId(Math.min(start + step, to)));
+                scans.add(executor.submit(() -> scan(range, rebuilt)));
+            }
+        }
+        int orders = 0;
+        for (Future<Integer> scan : scans) {
+            orders += scan.get();
+        }
+
+        matrix = rebuilt;
+        log.info("Rebuilt related products from " + orders + " orders covering " + rebuilt.size() + " products");
+        return orders;
+    }
+
+    private void backfill() {
+        String cursor = null;
+        int pages = 0;
+        do {
+            OrderBasketPageDto page = Objects.requireNonNull(
+                    orderService.getOrderBaskets(serviceToken, cursor, batchSize).getBody()).getResponse();
+            if (!page.getItems().isEmpty()) {
+                BulkOperations bulkOperations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, RelatedBasket.class);
+                for (OrderBasketDto basket : page.getItems()) {
+                    bulkOperations.upsert(
+                            Query.query(Criteria.where("orderId").is(basket.getOrderId())),
+                            new Update().set("productIds", basket.getProductIds()).set("voided", basket.isVoided())
+                    );
+                }
+                bulkOperations.execute();
+            }
+            cursor = page.getNextCursor();
+            pages++;
+        } while (cursor != null);
+        log.info("Backfilled related baskets from " + pages + " pages of order history");
+    }
+
+    private int scan(Criteria range, CoOccurrenceMatrix target) {
+        int count = 0;
+        Query query = Query.query(range.and("voided").is(false));
+        try (Stream<RelatedBasket> baskets = mongoTemplate.stream(query, RelatedBasket.class)) {
+            for (RelatedBasket basket : (Iterable<RelatedBasket>) baskets::iterator) {
+                target.addBasket(basket.getProductIds());
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * The smallest ObjectId of a second: the timestamp followed by zero bytes, so range bounds do
+     * not depend on this process's machine and counter bytes.
+     */
+    static ObjectId timestampId(long epochSeconds) {
+        return new ObjectId(String.format("%08x0000000000000000", epochSeconds));
+    }
+
+}
@@ -30,6 +30,7 @@ public class WebSecurityConfig {
                 .authorizeHttpRequests(auth ->
                         auth.requestMatchers("/product/**").permitAll()
                                 .requestMatchers("/admin/product/**").hasAuthority("ROLE_ADMIN")
+                                .requestMatchers("/internal/**").hasAuthority("ROLE_SERVICE")
                                 .anyRequest().authenticated()
                 );
 
@@ -0,0 +1,16 @@
+package com.wellNexa.productservice.services;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+
+import com.wellNexa.productservice.dtos.ApiResponseDto;
+import com.wellNexa.productservice.exceptions.ServiceLogicException;
+
+import java.io.InputStream;
+
+@Service
+public interface ProductImportService {
+
+    ResponseEntity<ApiResponseDto<?>> importProducts(InputStream inputStream) throws ServiceLogicException;
+
+}
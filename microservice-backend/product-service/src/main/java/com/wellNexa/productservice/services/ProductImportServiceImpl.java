@@ -0,0 +1,221 @@
+package com.wellNexa.productservice.services;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mongodb.bulk.BulkWriteError;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import com.wellNexa.productservice.analytics.CategoryProductCounter;
+import com.wellNexa.productservice.caching.CategoryCache;
+import com.wellNexa.productservice.dtos.ApiResponseDto;
+import com.wellNexa.productservice.dtos.CategoryDto;
+import com.wellNexa.productservice.dtos.ProductImportErrorDto;
+import com.wellNexa.productservice.dtos.ProductImportResultDto;
+import com.wellNexa.productservice.events.CatalogChangedEvent;
+import com.wellNexa.productservice.exceptions.ServiceLogicException;
+import com.wellNexa.productservice.models.Product;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Imports products from a JSON array or NDJSON stream in the shape of the sample product export.
+ * Rows are parsed one at a time and written in unordered bulk inserts, so a bad row is reported
+ * without aborting the rest of the batch.
+ */
+@Slf4j
+@Component
+public class ProductImportServiceImpl implements ProductImportService {
+
+    private static final int MAX_REPORTED_ERRORS = 1000;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private CategoryCache categoryCache;
+
+    @Autowired
+    private CategoryProductCounter categoryProductCounter;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Value("${catalog.import.batch-size:1000}")
+    private int batchSize;
+
+    @Override
+    public ResponseEntity<ApiResponseDto<?>> importProducts(InputStream inputStream) throws ServiceLogicException {
+        ImportRun run = new ImportRun();
+        try (JsonParser parser = objectMapper.getFactory().createParser(inputStream)) {
+            JsonToken token = parser.nextToken();
+            boolean isArray = token == JsonToken.START_ARRAY;
+            if (isArray) {
+                token = parser.nextToken();
+            }
+
+            while (token != null && !(isArray && token == JsonToken.END_ARRAY)) {
+                run.rowsRead++;
+                if (token == JsonToken.START_OBJECT) {
+                    run.accept(parser.readValueAsTree());
+                } else {
+                    parser.skipChildren();
+                    run.reject(run.rowsRead, "Expected a JSON object");
+                }
+                token = parser.nextToken();
+            }
+        } catch (JsonProcessingException e) {
+            run.reject(run.rowsRead, "Malformed JSON, import stopped: " + e.getOriginalMessage());
+        } catch (IOException e) {
+            log.error("Failed to read product import: " + e.getMessage());
+            run.flush();
+            run.publish();
+            throw new ServiceLogicException("Unable to read product import!");
+        }
+
+        run.flush();
+        run.publish();
+
+        return ResponseEntity.ok(
+                ApiResponseDto.builder()
+                        .isSuccess(run.failed == 0)
+                        .message(run.imported + " products imported, " + run.failed + " failed!")
+                        .response(ProductImportResultDto.builder()
+                                .rowsRead(run.rowsRead)
+                                .imported(run.imported)
+                                .failed(run.failed)
+                                .errors(run.errors)
+                                .errorsTruncated(run.failed > run.errors.size())
+                                .build())
+                        .build()
+        );
+    }
+
+    private class ImportRun {
+        private final Map<String, Optional<CategoryDto>> categories = new HashMap<>();
+        private final List<Product> chunk = new ArrayList<>(batchSize);
+        private final List<Long> chunkRows = new ArrayList<>(batchSize);
+        private final List<String> importedIds = new ArrayList<>();
+        private final Map<String, Long> importedPerCategory = new HashMap<>();
+        private final List<ProductImportErrorDto> errors = new ArrayList<>();
+        private long rowsRead;
+        private long imported;
+        private long failed;
+
+        void accept(JsonNode node) {
+            try {
+                chunk.add(toProduct(node));
+                chunkRows.add(rowsRead);
+            } catch (IllegalArgumentException e) {
+                reject(rowsRead, e.getMessage());
+            }
+            if (chunk.size() >= batchSize) {
+                flush();
+            }
+        }
+
+        void reject(long row, String message) {
+            failed++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new ProductImportErrorDto(row, message));
+            }
+        }
+
+        void flush() {
+            if (chunk.isEmpty()) {
+                return;
+            }
+            boolean[] failedRows = new boolean[chunk.size()];
+            try {
+                mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Product.class).insert(chunk).execute();
+            } catch (BulkOperationException e) {
+                for (BulkWriteError error : e.getErrors()) {
+                    failedRows[error.getIndex()] = true;
+                    reject(chunkRows.get(error.getIndex()), error.getMessage());
+                }
+            } catch (Exception e) {
+                log.error("Failed to write product import batch: " + e.getMessage());
+                for (int i = 0; i < chunk.size(); i++) {
+                    failedRows[i] = true;
+                    reject(chunkRows.get(i), "Unable to save product!");
+                }
+            }
+            for (int i = 0; i < chunk.size(); i++) {
+                if (!failedRows[i]) {
+                    importedIds.add(chunk.get(i).getId());
+                    importedPerCategory.merge(chunk.get(i).getCategoryId(), 1L, Long::sum);
+                    imported++;
+                }
+            }
+            chunk.clear();
+            chunkRows.clear();
+        }
+
+        void publish() {
+            if (!importedIds.isEmpty()) {
+                categoryProductCounter.applyDeltas(importedPerCategory);
+                eventPublisher.publishEvent(new CatalogChangedEvent(List.copyOf(importedIds)));
+            }
+        }
+
+        private Product toProduct(JsonNode node) {
+            String productName = node.path("productName").asText("").trim();
+            if (productName.isEmpty()) {
+                throw new IllegalArgumentException("productName is required");
+            }
+            JsonNode price = node.path("price");
+            if (!price.isNumber() || price.asDouble() < 0) {
+                throw new IllegalArgumentException("price must be a non-negative number");
+            }
+            String categoryId = node.path("categoryId").asText(null);
+            CategoryDto category = categoryId == null ? null : categories
+                    .computeIfAbsent(categoryId, id -> Optional.ofNullable(categoryCache.resolveCategory(id)))
+                    .orElse(null);
+            if (category == null) {
+                throw new IllegalArgumentException("Category not found with id " + categoryId);
+            }
+
+            return Product.builder()
+                    .id(readId(node.path("_id")))
+                    .productName(productName)
+                    .price(price.asDouble())
+                    .description(node.path("description").asText(null))
+                    .imageUrl(node.path("imageUrl").asText(null))
+                    .categoryId(category.getId())
+                    .categoryName(category.getCategoryName())
+                    .build();
+        }
+
+        private String readId(JsonNode idNode) {
+            String id = idNode.isObject() ? idNode.path("$oid").asText(null) : idNode.asText(null);
+            if (id == null || id.isEmpty()) {
+                return new ObjectId().toHexString();
+            }
+            if (!ObjectId.isValid(id)) {
+                throw new IllegalArgumentException("Invalid product id " + id);
+            }
+            return id;
+        }
+    }
+
+}
@@ -4,10 +4,17 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 
 import com.wellNexa.productservice.dtos.ApiResponseDto;
+import com.wellNexa.productservice.dtos.OrderBasketDto;
+import com.wellNexa.productservice.dtos.ProductFilterRequestDto;
+import com.wellNexa.productservice.dtos.ProductPatchRequestDto;
 import com.wellNexa.productservice.dtos.ProductRequestDto;
+import com.wellNexa.productservice.exceptions.ProductVersionConflictException;
+import com.wellNexa.productservice.exceptions.ProductVersionRequiredException;
 import com.wellNexa.productservice.exceptions.ResourceNotFoundException;
 import com.wellNexa.productservice.exceptions.ServiceLogicException;
 
+import java.util.List;
+
 
 @Service
 public interface ProductService {
@@ -21,5 +28,21 @@ public interface ProductService {
 
     ResponseEntity<ApiResponseDto<?>> searchProducts(String searchKey) throws ServiceLogicException;
 
-    ResponseEntity<ApiResponseDto<?>> editProduct(String productId, ProductRequestDto requestDto) throws ServiceLogicException, ResourceNotFoundException;
+    ResponseEntity<ApiResponseDto<?>> filterProducts(ProductFilterRequestDto filter) throws ServiceLogicException;
+
+    ResponseEntity<ApiResponseDto<?>> getRecentlyViewedProducts(String userId) throws ServiceLogicException;
+
+    ResponseEntity<ApiResponseDto<?>> getRelatedProducts(String productId) throws ServiceLogicException;
+
+    ResponseEntity<ApiResponseDto<?>> rebuildRelatedProducts(boolean backfill) throws ServiceLogicException;
+
+    ResponseEntity<ApiResponseDto<?>> recordOrderBasket(OrderBasketDto basket) throws ServiceLogicException;
+
+    ResponseEntity<ApiResponseDto<?>> getProductCountsByCategory(List<String> categoryIds) throws ServiceLogicException;
+
+    ResponseEntity<ApiResponseDto<?>> syncCategoryName(String categoryId) throws ServiceLogicException, ResourceNotFoundException;
+
+    ResponseEntity<ApiResponseDto<?>> editProduct(String productId, ProductRequestDto requestDto) throws ServiceLogicException, ResourceNotFoundException, ProductVersionConflictException, ProductVersionRequiredException;
+
+    ResponseEntity<ApiResponseDto<?>> bulkPatchProducts(List<ProductPatchRequestDto> patches) throws ServiceLogicException;
 }
@@ -1,38 +1,113 @@
 package com.wellNexa.productservice.services;
 
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.bulk.BulkWriteUpsert;
 import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.bson.types.ObjectId;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOptions;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 
+import com.wellNexa.productservice.analytics.CategoryProductCounter;
+import com.wellNexa.productservice.analytics.RecentlyViewedTracker;
+import com.wellNexa.productservice.caching.CatalogSnapshot;
+import com.wellNexa.productservice.caching.CategoryCache;
+import com.wellNexa.productservice.caching.ProductETag;
 import com.wellNexa.productservice.dtos.ApiResponseDto;
 import com.wellNexa.productservice.dtos.CategoryDto;
+import com.wellNexa.productservice.dtos.CategoryProductCountDto;
+import com.wellNexa.productservice.dtos.FacetCountDto;
+import com.wellNexa.productservice.dtos.OrderBasketDto;
+import com.wellNexa.productservice.dtos.ProductBulkPatchResultDto;
+import com.wellNexa.productservice.dtos.ProductFilterRequestDto;
+import com.wellNexa.productservice.dtos.ProductFilterResponseDto;
+import com.wellNexa.productservice.dtos.ProductPatchErrorDto;
+import com.wellNexa.productservice.dtos.ProductPatchRequestDto;
 import com.wellNexa.productservice.dtos.ProductRequestDto;
+import com.wellNexa.productservice.enums.EProductSortOrder;
+import com.wellNexa.productservice.events.CatalogChangedEvent;
+import com.wellNexa.productservice.events.CategoryRenameHandler;
+import com.wellNexa.productservice.exceptions.ProductVersionConflictException;
+import com.wellNexa.productservice.exceptions.ProductVersionRequiredException;
 import com.wellNexa.productservice.exceptions.ResourceNotFoundException;
 import com.wellNexa.productservice.exceptions.ServiceLogicException;
-import com.wellNexa.productservice.feigns.CategoryService;
 import com.wellNexa.productservice.models.Product;
+import com.wellNexa.productservice.recommendations.OrderCoOccurrenceFeed;
 import com.wellNexa.productservice.repositories.ProductRepository;
 
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Component
 public class ProductServiceImpl implements ProductService {
 
+    private static final int MAX_FILTER_PAGE_SIZE = 100;
+
+    private static final int DUPLICATE_KEY_ERROR = 11000;
+
     @Autowired
     private ProductRepository productRepository;
 
     @Autowired
-    private CategoryService categoryService;
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private CategoryCache categoryCache;
+
+    @Autowired
+    private CatalogSnapshot catalogSnapshot;
+
+    @Autowired
+    private RecentlyViewedTracker recentlyViewedTracker;
+
+    @Autowired
+    private OrderCoOccurrenceFeed orderCoOccurrenceFeed;
+
+    @Autowired
+    private CategoryRenameHandler categoryRenameHandler;
+
+    @Autowired
+    private CategoryProductCounter categoryProductCounter;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Value("${catalog.filter.price-buckets:0,25,50,100,250,500}")
+    private double[] priceBuckets;
 
     @Override
     public ResponseEntity<ApiResponseDto<?>> addProduct(ProductRequestDto requestDto) throws ServiceLogicException, ResourceNotFoundException {
         try {
-            CategoryDto category = categoryService.getCategoryById(requestDto.getCategoryId()).getBody().getResponse();
+            CategoryDto category = categoryCache.resolveCategory(requestDto.getCategoryId());
             if (category != null){
                 Product product = productDtoToProduct(requestDto, category);
-                productRepository.insert(product);
+                product = productRepository.insert(product);
+                categoryProductCounter.increment(product.getCategoryId(), 1);
+                eventPublisher.publishEvent(new CatalogChangedEvent(List.of(product.getId())));
                 return ResponseEntity.ok(
                         ApiResponseDto.builder()
                                 .isSuccess(true)
@@ -47,33 +122,138 @@ public class ProductServiceImpl implements ProductService {
     }
 
     @Override
-    public ResponseEntity<ApiResponseDto<?>> editProduct(String productId, ProductRequestDto requestDto) throws ServiceLogicException, ResourceNotFoundException {
+    public ResponseEntity<ApiResponseDto<?>> editProduct(String productId, ProductRequestDto requestDto) throws ServiceLogicException, ResourceNotFoundException, ProductVersionConflictException, ProductVersionRequiredException {
+        if (requestDto.getVersion() == null) {
+            throw new ProductVersionRequiredException("The version of product " + productId + " being edited is required");
+        }
         try {
 
-            CategoryDto category = categoryService.getCategoryById(requestDto.getCategoryId()).getBody().getResponse();
+            CategoryDto category = categoryCache.resolveCategory(requestDto.getCategoryId());
             if (category == null)
                 throw new ResourceNotFoundException("Category not found with id " + requestDto.getCategoryId());
 
-            Product product = productRepository.findById(productId).orElse(null);
-            if (product == null)
-                throw new ResourceNotFoundException("Product not found with id " + productId);
+            Update update = new Update()
+                    .set("productName", requestDto.getProductName())
+                    .set("price", requestDto.getPrice())
+                    .set("description", requestDto.getDescription())
+                    .set("imageUrl", requestDto.getImageUrl())
+                    .set("categoryId", category.getId())
+                    .set("categoryName", category.getCategoryName())
+                    .inc("version", 1);
+            Query query = Query.query(versionCriteria(Criteria.where("id").is(productId), requestDto.getVersion()));
+            Product product = mongoTemplate.findAndModify(query, update, Product.class);
+            if (product == null) {
+                Product current = productRepository.findById(productId).orElse(null);
+                if (current == null)
+                    throw new ResourceNotFoundException("Product not found with id " + productId);
+                throw new ProductVersionConflictException("Product " + productId + " was modified concurrently, current version is " + current.getVersion());
+            }
+            categoryProductCounter.moved(product.getCategoryId(), category.getId());
+
+            product.setProductName(requestDto.getProductName());
+            product.setPrice(requestDto.getPrice());
+            product.setDescription(requestDto.getDescription());
+            product.setImageUrl(requestDto.getImageUrl());
+            product.setCategoryId(category.getId());
+            product.setCategoryName(category.getCategoryName());
+            product.setVersion(product.getVersion() + 1);
 
-            product = productDtoToProduct(requestDto, category);
-            product.setId(productId);
-            productRepository.save(product);
+            eventPublisher.publishEvent(new CatalogChangedEvent(List.of(productId)));
             return ResponseEntity.ok(
                     ApiResponseDto.builder()
                             .isSuccess(true)
                             .message("Product edited successfully!")
+                            .response(product)
                             .build()
             );
         }catch(ResourceNotFoundException e) {
             throw new ResourceNotFoundException(e.getMessage());
+        }catch(ProductVersionConflictException e) {
+            throw new ProductVersionConflictException(e.getMessage());
         }catch(Exception e) {
             throw new ServiceLogicException("Unable save category!");
         }
     }
 
+    /**
+     * Applies every patch in one unordered bulk write. Each update matches the expected version in
+     * its filter and is sent as an upsert, so a patch whose version no longer matches fails with a
+     * duplicate key error at its own index instead of silently matching nothing. A product deleted
+     * since the existence check shows up as an upsert and is removed again. A product may only be
+     * patched once per batch, since the order of updates inside an unordered bulk is undefined.
+     */
+    @Override
+    public ResponseEntity<ApiResponseDto<?>> bulkPatchProducts(List<ProductPatchRequestDto> patches) throws ServiceLogicException {
+        try {
+            List<ProductPatchErrorDto> errors = new ArrayList<>();
+            List<ProductPatchRequestDto> validPatches = new ArrayList<>();
+            BulkOperations bulkOperations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Product.class);
+
+            Map<String, Long> occurrences = patches.stream()
+                    .collect(Collectors.groupingBy(patch -> String.valueOf(patch.getProductId()), Collectors.counting()));
+            Set<String> existingIds = existingProductIds(patches);
+            for (ProductPatchRequestDto patch : patches) {
+                if (occurrences.get(String.valueOf(patch.getProductId())) > 1) {
+                    errors.add(new ProductPatchErrorDto(patch.getProductId(), "Product is patched more than once in this batch"));
+                    continue;
+                }
+                try {
+                    Query query = patchQuery(patch);
+                    Update update = patchUpdate(patch);
+                    if (!existingIds.contains(patch.getProductId())) {
+                        errors.add(new ProductPatchErrorDto(patch.getProductId(), "Product not found with id " + patch.getProductId()));
+                        continue;
+                    }
+                    bulkOperations.upsert(query, update);
+                    validPatches.add(patch);
+                } catch (IllegalArgumentException e) {
+                    errors.add(new ProductPatchErrorDto(patch.getProductId(), e.getMessage()));
+                }
+            }
+
+            Set<String> touchedCategoryIds = recategorizedFrom(validPatches);
+            int updated = 0;
+            if (!validPatches.isEmpty()) {
+                BulkWriteResult result;
+                List<BulkWriteError> writeErrors = List.of();
+                try {
+                    result = bulkOperations.execute();
+                } catch (BulkOperationException e) {
+                    result = e.getResult();
+                    writeErrors = e.getErrors();
+                }
+                updated = result.getMatchedCount();
+                errors.addAll(rejectedPatches(validPatches, result, writeErrors));
+            }
+
+            Set<String> failedIds = errors.stream().map(ProductPatchErrorDto::getProductId).collect(Collectors.toSet());
+            List<String> updatedIds = validPatches.stream()
+                    .map(ProductPatchRequestDto::getProductId)
+                    .filter(id -> !failedIds.contains(id))
+                    .toList();
+            if (!updatedIds.isEmpty()) {
+                categoryProductCounter.recount(touchedCategoryIds);
+                eventPublisher.publishEvent(new CatalogChangedEvent(updatedIds));
+            }
+
+            return ResponseEntity.ok(
+                    ApiResponseDto.builder()
+                            .isSuccess(errors.isEmpty())
+                            .message(updated + " products updated, " + errors.size() + " failed!")
+                            .response(ProductBulkPatchResultDto.builder()
+                                    .requested(patches.size())
+                                    .updated(updated)
+                                    .failed(errors.size())
+                                    .errors(errors)
+                                    .build())
+                            .build()
+            );
+        }catch (Exception e) {
+            log.error("Failed to bulk update products: " + e.getMessage());
+            throw new ServiceLogicException("Unable to update products!");
+        }
+    }
+
     @Override
     public ResponseEntity<ApiResponseDto<?>> getAllProducts() throws ServiceLogicException {
         try {
@@ -93,14 +273,26 @@ public class ProductServiceImpl implements ProductService {
     @Override
     public ResponseEntity<ApiResponseDto<?>> getProductById(String productId) throws ServiceLogicException{
         try {
-            Product product = productRepository.findById(productId).orElse(null);
+            Product product = catalogSnapshot.isServing() ? catalogSnapshot.getProduct(productId) : null;
+            if (product == null) {
+                product = productRepository.findById(productId).orElse(null);
+            }
+            if (product == null) {
+                return ResponseEntity.ok(
+                        ApiResponseDto.builder()
+                                .isSuccess(true)
+                                .build()
+                );
+            }
 
-            return ResponseEntity.ok(
-                    ApiResponseDto.builder()
-                            .isSuccess(true)
-                            .response(product)
-                            .build()
-            );
+            return ResponseEntity.ok()
+                    .eTag(new ProductETag(product.getId(), product.getVersion()).encode())
+                    .body(
+                            ApiResponseDto.builder()
+                                    .isSuccess(true)
+                                    .response(product)
+                                    .build()
+                    );
 
         }catch (Exception e) {
             throw new ServiceLogicException("Unable to find products!");
@@ -110,10 +302,13 @@ public class ProductServiceImpl implements ProductService {
     @Override
     public ResponseEntity<ApiResponseDto<?>> getProductByCategory(String categoryId) throws ServiceLogicException, ResourceNotFoundException {
         try {
-            CategoryDto category = categoryService.getCategoryById(categoryId).getBody().getResponse();
+            CategoryDto category = categoryCache.getCategory(categoryId);
 
             if (category != null){
-                List<Product> products = productRepository.findByCategoryId(categoryId);
+                List<Product> products = catalogSnapshot.isServing() ? catalogSnapshot.getProductsByCategory(categoryId) : null;
+                if (products == null) {
+                    products = productRepository.findByCategoryId(categoryId);
+                }
 
                 return ResponseEntity.ok(
                         ApiResponseDto.builder()
@@ -130,6 +325,113 @@ public class ProductServiceImpl implements ProductService {
         throw new ResourceNotFoundException("Category not found with id " + categoryId);
     }
 
+    @Override
+    public ResponseEntity<ApiResponseDto<?>> getRecentlyViewedProducts(String userId) throws ServiceLogicException {
+        try {
+            List<Product> products = findAllInOrder(recentlyViewedTracker.getRecentlyViewed(userId));
+
+            return ResponseEntity.ok(
+                    ApiResponseDto.builder()
+                            .isSuccess(true)
+                            .response(products)
+                            .message(products.size() + " results found!")
+                            .build()
+            );
+        }catch (Exception e) {
+            log.error("Failed to find recently viewed products: " + e.getMessage());
+            throw new ServiceLogicException("Unable to find products!");
+        }
+    }
+
+    @Override
+    public ResponseEntity<ApiResponseDto<?>> getRelatedProducts(String productId) throws ServiceLogicException {
+        try {
+            List<Product> products = findAllInOrder(orderCoOccurrenceFeed.getRelated(productId));
+
+            return ResponseEntity.ok(
+                    ApiResponseDto.builder()
+                            .isSuccess(true)
+                            .response(products)
+                            .message(products.size() + " results found!")
+                            .build()
+            );
+        }catch (Exception e) {
+            log.error("Failed to find related products: " + e.getMessage());
+            throw new ServiceLogicException("Unable to find products!");
+        }
+    }
+
+    @Override
+    public ResponseEntity<ApiResponseDto<?>> rebuildRelatedProducts(boolean backfill) throws ServiceLogicException {
+        try {
+            int orders = orderCoOccurrenceFeed.rebuild(backfill);
+            return ResponseEntity.ok(
+                    ApiResponseDto.builder()
+                            .isSuccess(true)
+                            .message("Related products rebuilt from " + orders + " orders!")
+                            .build()
+            );
+        }catch (Exception e) {
+            log.error("Failed to rebuild related products: " + e.getMessage());
+            throw new ServiceLogicException("Unable to rebuild related products!");
+        }
+    }
+
+    @Override
+    public ResponseEntity<ApiResponseDto<?>> recordOrderBasket(OrderBasketDto basket) throws ServiceLogicException {
+        try {
+            orderCoOccurrenceFeed.apply(basket);
+            return ResponseEntity.ok(
+                    ApiResponseDto.builder()
+                            .isSuccess(true)
+                            .message("Order basket recorded!")
+                            .build()
+            );
+        }catch (Exception e) {
+            log.error("Failed to record order basket: " + e.getMessage());
+            throw new ServiceLogicException("Unable to record order basket!");
+        }
+    }
+
+    @Override
+    public ResponseEntity<ApiResponseDto<?>> getProductCountsByCategory(List<String> categoryIds) throws ServiceLogicException {
+        try {
+            List<CategoryProductCountDto> counts = categoryProductCounter.getCounts(categoryIds);
+            return ResponseEntity.ok(
+                    ApiResponseDto.builder()
+                            .isSuccess(true)
+                            .response(counts)
+                            .message(counts.size() + " results found!")
+                            .build()
+            );
+        }catch (Exception e) {
+            log.error("Failed to find product counts: " + e.getMessage());
+            throw new ServiceLogicException("Unable to find product counts!");
+        }
+    }
+
+    @Override
+    public ResponseEntity<ApiResponseDto<?>> syncCategoryName(String categoryId) throws ServiceLogicException, ResourceNotFoundException {
+        try {
+            CategoryDto category = categoryCache.resolveCategory(categoryId);
+            if (category == null)
+                throw new ResourceNotFoundException("Category not found with id " + categoryId);
+
+            return ResponseEntity.accepted().body(
+                    ApiResponseDto.builder()
+                            .isSuccess(true)
+                            .message("Category name sync started!")
+                            .response(categoryRenameHandler.submit(category.getId(), category.getCategoryName()))
+                            .build()
+            );
+        }catch (ResourceNotFoundException e) {
+            throw new ResourceNotFoundException(e.getMessage());
+        }catch (Exception e) {
+            log.error("Failed to start category name sync: " + e.getMessage());
+            throw new ServiceLogicException("Unable to sync category name!");
+        }
+    }
+
     @Override
     public ResponseEntity<ApiResponseDto<?>> searchProducts(String searchKey) throws ServiceLogicException {
         try {
@@ -150,6 +452,244 @@ public class ProductServiceImpl implements ProductService {
         }
     }
 
+    @Override
+    public ResponseEntity<ApiResponseDto<?>> filterProducts(ProductFilterRequestDto filter) throws ServiceLogicException {
+        try {
+            int size = Math.min(Math.max(filter.getSize(), 1), MAX_FILTER_PAGE_SIZE);
+            int page = Math.max(filter.getPage(), 0);
+
+            Criteria criteria = filterCriteria(filter);
+            Query pageQuery = Query.query(criteria)
+                    .with(filterSort(filter.getSort()))
+                    .skip((long) page * size)
+                    .limit(size);
+            List<Product> products = mongoTemplate.find(pageQuery, Product.class);
+
+            Aggregation aggregation = Aggregation.newAggregation(
+                    Aggregation.match(criteria),
+                    Aggregation.facet(Aggregation.count().as("total"))
+                            .as("total")
+                            .and(Aggregation.group("categoryId").first("categoryName").as("categoryName").count().as("count"),
+                                    Aggregation.sort(Sort.Direction.DESC, "count"))
+                            .as("categories")
+                            .and(Aggregation.bucket("price")
+                                    .withBoundaries(Arrays.stream(priceBuckets).boxed().toArray())
+                                    .withDefaultBucket("other")
+                                    .andOutputCount().as("count"))
+                            .as("prices")
+            ).withOptions(AggregationOptions.builder().allowDiskUse(true).build());
+            Document result = mongoTemplate.aggregate(aggregation, mongoTemplate.getCollectionName(Product.class), Document.class)
+                    .getUniqueMappedResult();
+
+            List<Document> totals = result.getList("total", Document.class);
+            long total = totals.isEmpty() ? 0 : totals.get(0).get("total", Number.class).longValue();
+
+            List<FacetCountDto> categoryFacets = result.getList("categories", Document.class).stream()
+                    .map(facet -> new FacetCountDto(facet.getString("_id"), facet.getString("categoryName"), facet.get("count", Number.class).longValue()))
+                    .toList();
+            List<FacetCountDto> priceFacets = result.getList("prices", Document.class).stream()
+                    .map(facet -> new FacetCountDto(String.valueOf(facet.get("_id")), priceBucketLabel(facet.get("_id")), facet.get("count", Number.class).longValue()))
+                    .toList();
+
+            return ResponseEntity.ok(
+                    ApiResponseDto.builder()
+                            .isSuccess(true)
+                            .response(ProductFilterResponseDto.builder()
+                                    .products(products)
+                                    .total(total)
+                                    .page(page)
+                                    .size(size)
+                                    .categoryFacets(categoryFacets)
+                                    .priceFacets(priceFacets)
+                                    .build())
+                            .message(total + " results found!")
+                            .build()
+            );
+        }catch (Exception e) {
+            log.error("Failed to filter products: " + e.getMessage());
+            throw new ServiceLogicException("Unable to find products!");
+        }
+    }
+
+    private Criteria filterCriteria(ProductFilterRequestDto filter) {
+        Criteria criteria = new Criteria();
+        if (filter.getCategoryIds() != null && !filter.getCategoryIds().isEmpty()) {
+            criteria.and("categoryId").in(filter.getCategoryIds());
+        }
+        if (filter.getMinPrice() != null || filter.getMaxPrice() != null) {
+            Criteria price = criteria.and("price");
+            if (filter.getMinPrice() != null) price.gte(filter.getMinPrice());
+            if (filter.getMaxPrice() != null) price.lte(filter.getMaxPrice());
+        }
+        return criteria;
+    }
+
+    private Sort filterSort(EProductSortOrder sortOrder) {
+        Sort sort = switch (sortOrder == null ? EProductSortOrder.NEWEST : sortOrder) {
+            case PRICE_ASC -> Sort.by(Sort.Direction.ASC, "price");
+            case PRICE_DESC -> Sort.by(Sort.Direction.DESC, "price");
+            case NAME_ASC -> Sort.by(Sort.Direction.ASC, "productName");
+            case NAME_DESC -> Sort.by(Sort.Direction.DESC, "productName");
+            case BEST_SELLING -> Sort.by(Sort.Direction.DESC, "cartCount", "viewCount");
+            case TRENDING -> Sort.by(Sort.Direction.DESC, "trendingScore");
+            case NEWEST -> Sort.unsorted();
+        };
+        return sort.and(Sort.by(Sort.Direction.DESC, "_id"));
+    }
+
+    private String priceBucketLabel(Object lowerBound) {
+        if (!(lowerBound instanceof Number lower)) {
+            return formatPrice(priceBuckets[priceBuckets.length - 1]) + "+";
+        }
+        for (int i = 0; i < priceBuckets.length - 1; i++) {
+            if (priceBuckets[i] == lower.doubleValue()) {
+                return formatPrice(priceBuckets[i]) + "-" + formatPrice(priceBuckets[i + 1]);
+            }
+        }
+        return formatPrice(lower.doubleValue()) + "+";
+    }
+
+    private String formatPrice(double price) {
+        return BigDecimal.valueOf(price).stripTrailingZeros().toPlainString();
+    }
+
+    private List<Product> findAllInOrder(List<String> productIds) {
+        if (productIds.isEmpty()) {
+            return List.of();
+        }
+        Map<String, Product> productsById = productRepository.findAllById(productIds).stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+        return productIds.stream()
+                .map(productsById::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private Query patchQuery(ProductPatchRequestDto patch) {
+        if (patch.getProductId() == null || !ObjectId.isValid(patch.getProductId())) {
+            throw new IllegalArgumentException("Invalid product id " + patch.getProductId());
+        }
+        return Query.query(versionCriteria(Criteria.where("id").is(patch.getProductId()), patch.getExpectedVersion()));
+    }
+
+    private Criteria versionCriteria(Criteria criteria, Long expectedVersion) {
+        if (expectedVersion == null) {
+            return criteria;
+        }
+        return expectedVersion == 0
+                ? criteria.orOperator(Criteria.where("version").is(0L), Criteria.where("version").exists(false))
+                : criteria.and("version").is(expectedVersion);
+    }
+
+    /**
+     * Collects the current and requested categories of every patch that moves a product, so the
+     * counts of exactly those categories can be recounted once the patches are applied.
+     */
+    private Set<String> recategorizedFrom(Collection<ProductPatchRequestDto> patches) {
+        Set<String> categoryIds = new HashSet<>();
+        List<String> productIds = new ArrayList<>();
+        for (ProductPatchRequestDto patch : patches) {
+            if (patch.getCategoryId() != null) {
+                categoryIds.add(patch.getCategoryId());
+                productIds.add(patch.getProductId());
+            }
+        }
+        if (!productIds.isEmpty()) {
+            Query query = Query.query(Criteria.where("id").in(productIds));
+            query.fields().include("categoryId");
+            mongoTemplate.find(query, Product.class).stream()
+                    .map(Product::getCategoryId)
+                    .filter(Objects::nonNull)
+                    .forEach(categoryIds::add);
+        }
+        return categoryIds;
+    }
+
+    private Update patchUpdate(ProductPatchRequestDto patch) {
+        Update update = new Update();
+        if (patch.getProductName() != null) {
+            if (patch.getProductName().isBlank()) {
+                throw new IllegalArgumentException("productName must not be blank");
+            }
+            update.set("productName", patch.getProductName());
+        }
+        if (patch.getPrice() != null) {
+            if (patch.getPrice() < 0) {
+                throw new IllegalArgumentException("price must not be negative");
+            }
+            update.set("price", patch.getPrice());
+        }
+        if (patch.getDescription() != null) {
+            update.set("description", patch.getDescription());
+        }
+        if (patch.getImageUrl() != null) {
+            update.set("imageUrl", patch.getImageUrl());
+        }
+        if (patch.getCategoryId() != null) {
+            CategoryDto category = categoryCache.resolveCategory(patch.getCategoryId());
+            if (category == null) {
+                throw new IllegalArgumentException("Category not found with id " + patch.getCategoryId());
+            }
+            update.set("categoryId", category.getId());
+            update.set("categoryName", category.getCategoryName());
+        }
+        if (update.getUpdateObject().isEmpty()) {
+            throw new IllegalArgumentException("Nothing to update");
+        }
+        return update.inc("version", 1);
+    }
+
+    private Set<String> existingProductIds(List<ProductPatchRequestDto> patches) {
+        List<String> productIds = patches.stream()
+                .map(ProductPatchRequestDto::getProductId)
+                .filter(id -> id != null && ObjectId.isValid(id))
+                .toList();
+        if (productIds.isEmpty()) {
+            return Set.of();
+        }
+        Query query = Query.query(Criteria.where("id").in(productIds));
+        query.fields().include("id");
+        return mongoTemplate.find(query, Product.class).stream().map(Product::getId).collect(Collectors.toSet());
+    }
+
+    /**
+     * Reads the rejected patches off the bulk result by operation index: upserts are products
+     * deleted in the meantime, whose stray documents are removed, and duplicate key errors are
+     * version conflicts.
+     */
+    private List<ProductPatchErrorDto> rejectedPatches(List<ProductPatchRequestDto> patches, BulkWriteResult result, List<BulkWriteError> writeErrors) {
+        List<ProductPatchErrorDto> rejected = new ArrayList<>();
+        List<String> deletedIds = new ArrayList<>();
+        for (BulkWriteUpsert upsert : result.getUpserts()) {
+            String productId = patches.get(upsert.getIndex()).getProductId();
+            deletedIds.add(productId);
+            rejected.add(new ProductPatchErrorDto(productId, "Product not found with id " + productId));
+        }
+        if (!deletedIds.isEmpty()) {
+            mongoTemplate.remove(Query.query(Criteria.where("id").in(deletedIds)), Product.class);
+        }
+
+        Map<String, String> conflicts = new LinkedHashMap<>();
+        for (BulkWriteError error : writeErrors) {
+            String productId = patches.get(error.getIndex()).getProductId();
+            if (error.getCode() == DUPLICATE_KEY_ERROR) {
+                conflicts.put(productId, null);
+            } else {
+                rejected.add(new ProductPatchErrorDto(productId, error.getMessage()));
+            }
+        }
+        if (!conflicts.isEmpty()) {
+            Query query = Query.query(Criteria.where("id").in(conflicts.keySet()));
+            query.fields().include("version");
+            Map<String, Long> versions = mongoTemplate.find(query, Product.class).stream()
+                    .collect(Collectors.toMap(Product::getId, Product::getVersion));
+            conflicts.keySet().forEach(productId -> rejected.add(new ProductPatchErrorDto(productId, versions.containsKey(productId)
+                    ? "Version conflict, current version is " + versions.get(productId)
+                    : "Product not found with id " + productId)));
+        }
+        return rejected;
+    }
+
     private Product productDtoToProduct(ProductRequestDto requestDto, CategoryDto categoryDto) {
         return Product.builder()
                 .productName(requestDto.getProductName())
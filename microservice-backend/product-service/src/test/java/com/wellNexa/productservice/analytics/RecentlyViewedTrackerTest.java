@@ -0,0 +1,56 @@
+package com.wellNexa.productservice.analytics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RecentlyViewedTrackerTest {
+
+    @Test
+    void testRingKeepsNewestDistinctIds() {
+        RecentlyViewedTracker.RecentRing ring = new RecentlyViewedTracker.RecentRing(3);
+
+        ring.add("p1");
+        ring.add("p2");
+        ring.add("p2");
+        ring.add("p1");
+
+        assertEquals(List.of("p1", "p2"), ring.newestFirst());
+
+        ring.add("p3");
+        ring.add("p4");
+
+        assertEquals(List.of("p4", "p3", "p1"), ring.newestFirst());
+    }
+
+    @Test
+    void testMergeAppendsStoredIdsAfterNewerViews() {
+        RecentlyViewedTracker.RecentRing ring = new RecentlyViewedTracker.RecentRing(4);
+        ring.add("p5");
+        ring.add("p2");
+
+        ring.merge(List.of("p1", "p2", "p3", "p4"));
+
+        assertTrue(ring.isLoaded());
+        assertEquals(List.of("p2", "p5", "p1", "p3"), ring.newestFirst());
+
+        ring.add("p6");
+
+        assertEquals(List.of("p6", "p2", "p5", "p1"), ring.newestFirst());
+    }
+
+    @Test
+    void testTakeDirtyOnlyReturnsChangedRings() {
+        RecentlyViewedTracker.RecentRing ring = new RecentlyViewedTracker.RecentRing(2);
+
+        assertNull(ring.takeDirty());
+
+        ring.add("p1");
+
+        assertEquals(List.of("p1"), ring.takeDirty());
+        assertNull(ring.takeDirty());
+    }
+
+}
@@ -0,0 +1,113 @@
+package com.wellNexa.productservice.caching;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.wellNexa.productservice.events.CatalogChangedEvent;
+import com.wellNexa.productservice.events.ProductEventOutbox;
+import com.wellNexa.productservice.models.Product;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class CatalogSnapshotTest {
+
+    @TempDir
+    Path tempDir;
+
+    private MongoTemplate mongoTemplate;
+
+    private ProductEventOutbox productEventOutbox;
+
+    private CatalogVersionTracker tracker;
+
+    private Path snapshotPath;
+
+    @BeforeEach
+    void setUp() {
+        mongoTemplate = mock(MongoTemplate.class);
+        productEventOutbox = mock(ProductEventOutbox.class);
+        when(productEventOutbox.getHeadSequence()).thenReturn(7L);
+        tracker = new CatalogVersionTracker();
+        ReflectionTestUtils.setField(tracker, "productEventOutbox", productEventOutbox);
+        tracker.checkHead();
+        snapshotPath = tempDir.resolve("catalog.snapshot");
+    }
+
+    @Test
+    void testSnapshotRoundTrip() {
+        Product mat = Product.builder().id("p1").productName("Yoga Mat").price(25.99)
+                .description("Non-slip").imageUrl(null).categoryId("c1").categoryName("Fitness").version(3)
+                .viewCount(120).cartCount(14).trendingScore(6.5).build();
+        Product dumbbells = Product.builder().id("p2").productName("Dumbbells Set").price(50)
+                .description("Adjustable ✓").imageUrl("https://img/p2.jpg").categoryId("c1").categoryName("Fitness").build();
+        Product whey = Product.builder().id("p3").productName("Whey").price(40)
+                .categoryId("c2").categoryName("Nutrition").build();
+        when(mongoTemplate.stream(any(Query.class), eq(Product.class))).thenReturn(Stream.of(mat, dumbbells, whey));
+
+        newSnapshot().refresh();
+
+        CatalogSnapshot restarted = newSnapshot();
+        restarted.map();
+
+        assertTrue(restarted.isServing());
+        assertEquals(mat, restarted.getProduct("p1"));
+        assertEquals(dumbbells, restarted.getProduct("p2"));
+        assertNull(restarted.getProduct("missing"));
+        assertEquals(List.of(mat, dumbbells), restarted.getProductsByCategory("c1"));
+        assertEquals(List.of(whey), restarted.getProductsByCategory("c2"));
+        assertEquals(List.of(), restarted.getProductsByCategory("c3"));
+
+        restarted.onCatalogChanged(new CatalogChangedEvent(List.of("p1")));
+
+        assertFalse(restarted.isServing());
+        assertNull(restarted.getProductsByCategory("c1"));
+    }
+
+    @Test
+    void testSnapshotIsNotServedOnceTheCatalogVersionMoves() {
+        Product whey = Product.builder().id("p3").productName("Whey").price(40)
+                .categoryId("c2").categoryName("Nutrition").build();
+        when(mongoTemplate.stream(any(Query.class), eq(Product.class))).thenReturn(Stream.of(whey));
+        newSnapshot().refresh();
+
+        CatalogSnapshot restarted = newSnapshot();
+        restarted.map();
+        assertTrue(restarted.isServing());
+
+        when(productEventOutbox.getHeadSequence()).thenReturn(8L);
+        tracker.checkHead();
+
+        assertFalse(restarted.isServing());
+        assertNull(restarted.getProduct("p3"));
+    }
+
+    @Test
+    void testMissingSnapshotIsNotServed() {
+        CatalogSnapshot snapshot = newSnapshot();
+        snapshot.map();
+
+        assertFalse(snapshot.isServing());
+        assertNull(snapshot.getProduct("p1"));
+    }
+
+    private CatalogSnapshot newSnapshot() {
+        CatalogSnapshot snapshot = new CatalogSnapshot();
+        ReflectionTestUtils.setField(snapshot, "mongoTemplate", mongoTemplate);
+        ReflectionTestUtils.setField(snapshot, "catalogVersionTracker", tracker);
+        ReflectionTestUtils.setField(snapshot, "enabled", true);
+        ReflectionTestUtils.setField(snapshot, "path", snapshotPath);
+        return snapshot;
+    }
+
+}
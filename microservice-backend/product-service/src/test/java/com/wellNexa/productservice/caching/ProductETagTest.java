@@ -0,0 +1,26 @@
+package com.wellNexa.productservice.caching;
+
+import org.junit.jupiter.api.Test;
+
+import com.wellNexa.productservice.exceptions.ProductVersionConflictException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProductETagTest {
+
+    @Test
+    void testETagRoundTrips() throws ProductVersionConflictException {
+        ProductETag eTag = new ProductETag("65a1f0c2e4b0a1b2c3d4e5f6", 7);
+
+        assertEquals("\"65a1f0c2e4b0a1b2c3d4e5f6-7\"", eTag.encode());
+        assertEquals(eTag, ProductETag.decode("65a1f0c2e4b0a1b2c3d4e5f6", eTag.encode()));
+    }
+
+    @Test
+    void testETagOfAnotherProductIsRejected() {
+        assertThrows(ProductVersionConflictException.class, () -> ProductETag.decode("p1", "\"p2-3\""));
+        assertThrows(ProductVersionConflictException.class, () -> ProductETag.decode("p1", "\"p1-\""));
+        assertThrows(ProductVersionConflictException.class, () -> ProductETag.decode("p1", "W/\"p1-3\""));
+    }
+
+}
@@ -0,0 +1,66 @@
+package com.wellNexa.productservice.recommendations;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CoOccurrenceMatrixTest {
+
+    @Test
+    void testRelatedProductsAreRankedByCoOccurrence() {
+        CoOccurrenceMatrix matrix = new CoOccurrenceMatrix(2, 50);
+
+        matrix.addBasket(List.of("mat", "blocks"));
+        matrix.addBasket(List.of("mat", "strap", "blocks"));
+        matrix.addBasket(List.of("mat", "strap"));
+        matrix.addBasket(List.of("mat", "strap", "bottle"));
+
+        assertEquals(List.of("strap", "blocks"), matrix.getRelated("mat"));
+        assertEquals(List.of("mat", "blocks"), matrix.getRelated("strap"));
+        assertEquals(List.of("mat", "strap"), matrix.getRelated("bottle"));
+        assertEquals(List.of(), matrix.getRelated("unknown"));
+    }
+
+    @Test
+    void testSingleItemAndDuplicateBasketsAreIgnored() {
+        CoOccurrenceMatrix matrix = new CoOccurrenceMatrix(5, 50);
+
+        matrix.addBasket(List.of("mat"));
+        matrix.addBasket(List.of("mat", "mat"));
+
+        assertEquals(List.of(), matrix.getRelated("mat"));
+    }
+
+    @Test
+    void testRowsGrowBeyondInitialCapacity() {
+        CoOccurrenceMatrix matrix = new CoOccurrenceMatrix(3, 100);
+        List<String> basket = IntStream.range(0, 40).mapToObj(i -> "p" + i).toList();
+
+        matrix.addBasket(basket);
+        matrix.addBasket(List.of("p0", "p39"));
+        matrix.addBasket(List.of("p0", "p39", "p17"));
+
+        assertEquals(40, matrix.size());
+        assertEquals(List.of("p39", "p17", "p1"), matrix.getRelated("p0"));
+    }
+
+    @Test
+    void testRemovedBasketsNoLongerCount() {
+        CoOccurrenceMatrix matrix = new CoOccurrenceMatrix(1, 50);
+
+        matrix.addBasket(List.of("mat", "strap"));
+        matrix.addBasket(List.of("mat", "strap"));
+        matrix.addBasket(List.of("mat", "blocks"));
+        assertEquals(List.of("strap"), matrix.getRelated("mat"));
+
+        matrix.removeBasket(List.of("mat", "strap"));
+        matrix.removeBasket(List.of("mat", "strap"));
+
+        assertEquals(List.of("blocks"), matrix.getRelated("mat"));
+        assertEquals(List.of(), matrix.getRelated("strap"));
+    }
+
+}